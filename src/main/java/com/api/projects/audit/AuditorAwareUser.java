@@ -1,6 +1,5 @@
 package com.api.projects.audit;
 
-import com.api.projects.entities.User;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.lang.NonNull;
 import org.springframework.security.core.Authentication;
@@ -18,7 +17,6 @@ public class AuditorAwareUser implements AuditorAware<String> {
       return Optional.of("unknown");
     }
 
-    User auditor = (User) auth.getPrincipal();
-    return Optional.of(auditor.getUsername());
+    return Optional.of(auth.getName());
   }
 }
@@ -0,0 +1,8 @@
+package com.api.projects.caches;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+public interface CacheEntryLoader extends CacheLoader<Object, Object> {
+
+  String cacheName();
+}
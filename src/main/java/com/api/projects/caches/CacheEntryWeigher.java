@@ -0,0 +1,110 @@
+package com.api.projects.caches;
+
+import com.api.projects.dtos.pagination.PageResponseDTO;
+import com.api.projects.dtos.project.ProjectResponseDTO;
+import com.api.projects.dtos.task.TaskResponseDTO;
+import com.api.projects.dtos.user.UserResponseDTO;
+import com.github.benmanes.caffeine.cache.Weigher;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import org.springframework.lang.NonNull;
+
+/**
+ * Estimates the retained heap of a cache entry in bytes, assuming compressed oops and compact
+ * strings. The numbers are approximations meant to keep the cache tier within its heap budget,
+ * not an exact measurement.
+ */
+public class CacheEntryWeigher implements Weigher<Object, Object> {
+
+  private static final int OBJECT_HEADER = 16;
+  private static final int REFERENCE = 4;
+  private static final int STRING = 40;
+  private static final int BOXED_LONG = 16;
+  private static final int LOCAL_DATE_TIME = 72;
+  private static final int MAP_NODE = 32;
+  private static final int DEFAULT_KEY = 64;
+  private static final int DEFAULT_VALUE = 256;
+
+  @Override
+  public int weigh(@NonNull Object key, @NonNull Object value) {
+    long weight = MAP_NODE + sizeOfKey(key) + sizeOf(value);
+    return (int) Math.min(weight, Integer.MAX_VALUE);
+  }
+
+  private long sizeOfKey(Object key) {
+    if (key instanceof Long) {
+      return BOXED_LONG;
+    }
+    if (key instanceof TaskPageKey pageKey) {
+      return OBJECT_HEADER + 7 * REFERENCE + sizeOf(pageKey.sortBy()) + BOXED_LONG;
+    }
+    if (key instanceof ProjectPageKey pageKey) {
+      return OBJECT_HEADER + 4 * REFERENCE + sizeOf(pageKey.sortBy());
+    }
+    return DEFAULT_KEY;
+  }
+
+  private long sizeOf(Object value) {
+    if (value == null) {
+      return 0;
+    }
+    if (value instanceof String string) {
+      return STRING + string.length();
+    }
+    if (value instanceof LocalDateTime) {
+      return LOCAL_DATE_TIME;
+    }
+    if (value instanceof Long) {
+      return BOXED_LONG;
+    }
+    if (value instanceof PageResponseDTO<?> page) {
+      return OBJECT_HEADER + 7 * REFERENCE + sizeOf(page.getContent());
+    }
+    if (value instanceof Collection<?> collection) {
+      long size = OBJECT_HEADER + REFERENCE * (long) collection.size();
+      for (Object element : collection) {
+        size += sizeOf(element);
+      }
+      return size;
+    }
+    if (value instanceof TaskResponseDTO task) {
+      return OBJECT_HEADER
+          + 11 * REFERENCE
+          + sizeOf(task.getId())
+          + sizeOf(task.getTitle())
+          + sizeOf(task.getDescription())
+          + sizeOf(task.getDueDate())
+          + sizeOf(task.getCreatedAt())
+          + sizeOf(task.getUpdatedAt())
+          + sizeOf(task.getCreatedBy())
+          + sizeOf(task.getUpdatedBy())
+          + sizeOf(task.getProject());
+    }
+    if (value instanceof ProjectResponseDTO project) {
+      return OBJECT_HEADER
+          + 10 * REFERENCE
+          + sizeOf(project.getId())
+          + sizeOf(project.getName())
+          + sizeOf(project.getDescription())
+          + sizeOf(project.getStartDate())
+          + sizeOf(project.getEndDate())
+          + sizeOf(project.getCreatedAt())
+          + sizeOf(project.getUpdatedAt())
+          + sizeOf(project.getCreatedBy())
+          + sizeOf(project.getUpdatedBy())
+          + sizeOf(project.getOwner());
+    }
+    if (value instanceof UserResponseDTO user) {
+      return OBJECT_HEADER
+          + 8 * REFERENCE
+          + sizeOf(user.getId())
+          + sizeOf(user.getUsername())
+          + sizeOf(user.getEmail())
+          + sizeOf(user.getCreatedAt())
+          + sizeOf(user.getUpdatedAt())
+          + sizeOf(user.getCreatedBy())
+          + sizeOf(user.getUpdatedBy());
+    }
+    return DEFAULT_VALUE;
+  }
+}
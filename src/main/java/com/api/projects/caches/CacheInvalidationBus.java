@@ -0,0 +1,120 @@
+package com.api.projects.caches;
+
+import com.api.projects.securities.TokenRevocationList;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+@Slf4j
+public class CacheInvalidationBus implements MessageListener {
+
+  @Getter private final String nodeId = UUID.randomUUID().toString();
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final String channel;
+  private final ObjectProvider<CacheManager> cacheManager;
+  private final ObjectProvider<MissingKeyCache> missingKeyCache;
+  private final ObjectProvider<ListVersions> listVersions;
+  private final ObjectProvider<TokenRevocationList> tokenRevocationList;
+  private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+  public CacheInvalidationBus(
+      RedisTemplate<String, Object> redisTemplate,
+      String channel,
+      ObjectProvider<CacheManager> cacheManager,
+      ObjectProvider<MissingKeyCache> missingKeyCache,
+      ObjectProvider<ListVersions> listVersions,
+      ObjectProvider<TokenRevocationList> tokenRevocationList) {
+    this.redisTemplate = redisTemplate;
+    this.channel = channel;
+    this.cacheManager = cacheManager;
+    this.missingKeyCache = missingKeyCache;
+    this.listVersions = listVersions;
+    this.tokenRevocationList = tokenRevocationList;
+  }
+
+  public void register(TwoLevelCache cache) {
+    caches.put(cache.getName(), cache);
+  }
+
+  public void publish(CacheInvalidationMessage message) {
+    try {
+      redisTemplate.convertAndSend(channel, message);
+    } catch (RuntimeException ex) {
+      log.warn(
+          "Could not publish invalidation for cache '{}': {}",
+          message.cacheName(),
+          ex.getMessage());
+    }
+  }
+
+  public void publishTaskEviction(String cacheName, TaskDimensions before, TaskDimensions after) {
+    List<TaskDimensions> tasks = Stream.of(before, after).filter(Objects::nonNull).toList();
+    publish(CacheInvalidationMessage.evictTasks(nodeId, cacheName, tasks));
+  }
+
+  public void publishTokenRevocation(String tokenId, Instant expiresAt) {
+    publish(CacheInvalidationMessage.revokeToken(nodeId, tokenId, expiresAt));
+  }
+
+  @Override
+  public void onMessage(@NonNull Message message, @Nullable byte[] pattern) {
+    CacheInvalidationMessage invalidation;
+    try {
+      invalidation =
+          (CacheInvalidationMessage) redisTemplate.getValueSerializer().deserialize(message.getBody());
+    } catch (RuntimeException ex) {
+      log.warn("Discarding unreadable cache invalidation message: {}", ex.getMessage());
+      return;
+    }
+    if (invalidation == null || nodeId.equals(invalidation.origin())) {
+      return;
+    }
+
+    log.debug("Applying remote invalidation from node {}: {}", invalidation.origin(), invalidation);
+    if (invalidation.revocation() != null) {
+      CacheInvalidationMessage.TokenRevocation revocation = invalidation.revocation();
+      tokenRevocationList.ifAvailable(
+          list -> list.addRevoked(revocation.tokenId(), revocation.expiresAt()));
+      return;
+    }
+    if (invalidation.tasks() != null) {
+      Cache cache = cacheManager.getObject().getCache(invalidation.cacheName());
+      TaskDimensions[] tasks = invalidation.tasks().toArray(TaskDimensions[]::new);
+      if (cache instanceof TaggedTaskCache taggedCache) {
+        taggedCache.evictMatchingLocal(tasks);
+      }
+      listVersions.ifAvailable(versions -> versions.tasksChanged(tasks));
+      return;
+    }
+
+    if (!invalidation.clear()) {
+      missingKeyCache.ifAvailable(
+          cache -> cache.clearLocal(invalidation.cacheName(), invalidation.key()));
+    }
+
+    TwoLevelCache cache = caches.get(invalidation.cacheName());
+    if (cache == null) {
+      return;
+    }
+    if (invalidation.clear()) {
+      cache.clearLocal();
+    } else {
+      cache.evictLocal(invalidation.key());
+    }
+  }
+}
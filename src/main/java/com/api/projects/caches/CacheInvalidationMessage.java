@@ -0,0 +1,34 @@
+package com.api.projects.caches;
+
+import java.time.Instant;
+import java.util.List;
+
+public record CacheInvalidationMessage(
+    String origin,
+    String cacheName,
+    Object key,
+    boolean clear,
+    List<TaskDimensions> tasks,
+    TokenRevocation revocation) {
+
+  public static CacheInvalidationMessage evict(String origin, String cacheName, Object key) {
+    return new CacheInvalidationMessage(origin, cacheName, key, false, null, null);
+  }
+
+  public static CacheInvalidationMessage clear(String origin, String cacheName) {
+    return new CacheInvalidationMessage(origin, cacheName, null, true, null, null);
+  }
+
+  public static CacheInvalidationMessage evictTasks(
+      String origin, String cacheName, List<TaskDimensions> tasks) {
+    return new CacheInvalidationMessage(origin, cacheName, null, false, tasks, null);
+  }
+
+  public static CacheInvalidationMessage revokeToken(
+      String origin, String tokenId, Instant expiresAt) {
+    return new CacheInvalidationMessage(
+        origin, null, null, false, null, new TokenRevocation(tokenId, expiresAt));
+  }
+
+  public record TokenRevocation(String tokenId, Instant expiresAt) {}
+}
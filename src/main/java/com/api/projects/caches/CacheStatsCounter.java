@@ -0,0 +1,67 @@
+package com.api.projects.caches;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+
+/**
+ * Records Caffeine statistics as Micrometer meters tagged with the cache name, including evictions
+ * by removal cause. Hits and misses are also logged when debug logging is enabled for this class.
+ */
+@Slf4j
+public class CacheStatsCounter implements StatsCounter {
+
+  private final String cacheName;
+  private final CaffeineStatsCounter delegate;
+
+  public CacheStatsCounter(MeterRegistry meterRegistry, String cacheName) {
+    this.cacheName = cacheName;
+    this.delegate = new CaffeineStatsCounter(meterRegistry, cacheName);
+  }
+
+  public void registerSizeMetric(Cache<?, ?> cache) {
+    delegate.registerSizeMetric(cache);
+  }
+
+  @Override
+  public void recordHits(int count) {
+    delegate.recordHits(count);
+    if (log.isDebugEnabled()) {
+      log.debug("Cache '{}' hit", cacheName);
+    }
+  }
+
+  @Override
+  public void recordMisses(int count) {
+    delegate.recordMisses(count);
+    if (log.isDebugEnabled()) {
+      log.debug("Cache '{}' miss", cacheName);
+    }
+  }
+
+  @Override
+  public void recordLoadSuccess(long loadTime) {
+    delegate.recordLoadSuccess(loadTime);
+  }
+
+  @Override
+  public void recordLoadFailure(long loadTime) {
+    delegate.recordLoadFailure(loadTime);
+  }
+
+  @Override
+  public void recordEviction(int weight, @NonNull RemovalCause cause) {
+    delegate.recordEviction(weight, cause);
+  }
+
+  @Override
+  @NonNull
+  public CacheStats snapshot() {
+    return delegate.snapshot();
+  }
+}
@@ -0,0 +1,36 @@
+package com.api.projects.caches;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.Cache;
+
+/**
+ * Binds the gauges that {@link CacheStatsCounter} cannot record itself: estimated size and hit
+ * ratio. It unwraps the cache decorators through {@link Cache#getNativeCache()} and takes
+ * precedence over Spring Boot's Caffeine binder, whose meters would duplicate the ones recorded by
+ * the stats counter.
+ */
+public class CacheStatsMeterBinderProvider implements CacheMeterBinderProvider<Cache> {
+
+  @Override
+  public MeterBinder getMeterBinder(Cache cache, Iterable<Tag> tags) {
+    if (!(cache.getNativeCache()
+        instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+      return null;
+    }
+    String name = cache.getName();
+    return registry -> {
+      Gauge.builder(
+              "cache.size", nativeCache, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+          .tag("cache", name)
+          .description("The approximate number of entries in this cache")
+          .register(registry);
+      Gauge.builder("cache.hit.ratio", nativeCache, c -> c.stats().hitRate())
+          .tag("cache", name)
+          .description("The ratio of lookups that were hits since the cache was created")
+          .register(registry);
+    };
+  }
+}
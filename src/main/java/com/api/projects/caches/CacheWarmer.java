@@ -0,0 +1,88 @@
+package com.api.projects.caches;
+
+import com.api.projects.configs.CacheProperties;
+import com.api.projects.dtos.project.ProjectFilterDTO;
+import com.api.projects.dtos.task.TaskFilterDTO;
+import com.api.projects.services.ProjectService;
+import com.api.projects.services.TaskService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Preloads the hot ids from the last shutdown snapshot and the default first pages. It runs as an
+ * application runner, so the readiness state only changes to accepting traffic once it is done or
+ * has timed out.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "cache.warm-up", name = "enabled", matchIfMissing = true)
+public class CacheWarmer implements ApplicationRunner {
+
+  private static final String PROJECT_CACHE = "project";
+  private static final String TASK_CACHE = "task";
+
+  private final CacheProperties cacheProperties;
+  private final HotKeyTracker hotKeyTracker;
+  private final ProjectService projectService;
+  private final TaskService taskService;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    CacheProperties.WarmUp warmUp = cacheProperties.getWarmUp();
+    Map<String, List<Long>> snapshot = hotKeyTracker.loadSnapshot();
+
+    List<Runnable> loads = new ArrayList<>();
+    loads.add(() -> projectService.findByFilter(new ProjectFilterDTO()));
+    loads.add(() -> taskService.findByFilter(new TaskFilterDTO()));
+    snapshot.getOrDefault(PROJECT_CACHE, List.of()).stream()
+        .limit(warmUp.getHotKeys())
+        .forEach(id -> loads.add(() -> projectService.findById(id)));
+    snapshot.getOrDefault(TASK_CACHE, List.of()).stream()
+        .limit(warmUp.getHotKeys())
+        .forEach(id -> loads.add(() -> taskService.findById(id)));
+
+    log.info("Warming up caches with {} loads on {} threads", loads.size(), warmUp.getParallelism());
+    long start = System.nanoTime();
+    ExecutorService executor = Executors.newFixedThreadPool(warmUp.getParallelism());
+    try {
+      CompletableFuture.allOf(
+              loads.stream()
+                  .map(load -> CompletableFuture.runAsync(() -> loadQuietly(load), executor))
+                  .toArray(CompletableFuture[]::new))
+          .get(warmUp.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+      log.info(
+          "Cache warm-up finished in {} ms",
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    } catch (TimeoutException e) {
+      log.warn("Cache warm-up did not finish within {}, continuing startup", warmUp.getTimeout());
+    } catch (ExecutionException e) {
+      log.warn("Cache warm-up failed: {}", e.getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void loadQuietly(Runnable load) {
+    try {
+      load.run();
+    } catch (RuntimeException e) {
+      log.debug("Skipping warm-up entry: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.api.projects.caches;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import org.springframework.cache.Cache;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/** Runs a callback after explicit evictions and clears, including those applied from other nodes. */
+public class ChangeNotifyingCache implements Cache {
+
+  private final Cache delegate;
+  private final Consumer<Object> onEvict;
+
+  public ChangeNotifyingCache(Cache delegate, Consumer<Object> onEvict) {
+    this.delegate = delegate;
+    this.onEvict = onEvict;
+  }
+
+  @Override
+  @NonNull
+  public String getName() {
+    return delegate.getName();
+  }
+
+  @Override
+  @NonNull
+  public Object getNativeCache() {
+    return delegate.getNativeCache();
+  }
+
+  @Override
+  @Nullable
+  public ValueWrapper get(@NonNull Object key) {
+    return delegate.get(key);
+  }
+
+  @Override
+  @Nullable
+  public <T> T get(@NonNull Object key, @Nullable Class<T> type) {
+    return delegate.get(key, type);
+  }
+
+  @Override
+  @Nullable
+  public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+    return delegate.get(key, valueLoader);
+  }
+
+  @Override
+  public void put(@NonNull Object key, @Nullable Object value) {
+    delegate.put(key, value);
+  }
+
+  @Override
+  public void evict(@NonNull Object key) {
+    delegate.evict(key);
+    onEvict.accept(key);
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+    onEvict.accept(null);
+  }
+}
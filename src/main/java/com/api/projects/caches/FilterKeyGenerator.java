@@ -0,0 +1,33 @@
+package com.api.projects.caches;
+
+import com.api.projects.dtos.project.ProjectFilterDTO;
+import com.api.projects.dtos.task.TaskFilterDTO;
+import java.lang.reflect.Method;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the keys of the paginated caches straight from the filter DTOs, so a cached call does not
+ * evaluate SpEL and two different filters never share a key.
+ */
+@Component(FilterKeyGenerator.NAME)
+public class FilterKeyGenerator implements KeyGenerator {
+
+  public static final String NAME = "filterKeyGenerator";
+
+  @Override
+  @NonNull
+  public Object generate(@NonNull Object target, @NonNull Method method, @NonNull Object... params) {
+    if (params.length == 1) {
+      if (params[0] instanceof TaskFilterDTO filter) {
+        return TaskPageKey.of(filter);
+      }
+      if (params[0] instanceof ProjectFilterDTO filter) {
+        return ProjectPageKey.of(filter);
+      }
+    }
+    return SimpleKeyGenerator.generateKey(params);
+  }
+}
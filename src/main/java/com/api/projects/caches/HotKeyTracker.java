@@ -0,0 +1,96 @@
+package com.api.projects.caches;
+
+import com.api.projects.configs.CacheProperties;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts reads of the single-entry caches per id and persists the most accessed ids at shutdown, so
+ * the next start can warm those entries up before taking traffic.
+ */
+@Slf4j
+@Component
+public class HotKeyTracker {
+
+  private final CacheProperties.WarmUp properties;
+  private final ObjectMapper objectMapper;
+  private final Map<String, Cache<Long, LongAdder>> counters = new ConcurrentHashMap<>();
+
+  public HotKeyTracker(CacheProperties cacheProperties, ObjectMapper objectMapper) {
+    this.properties = cacheProperties.getWarmUp();
+    this.objectMapper = objectMapper;
+  }
+
+  public void recordAccess(String cacheName, Object key) {
+    if (key instanceof Long id) {
+      counters
+          .computeIfAbsent(
+              cacheName,
+              name -> Caffeine.newBuilder().maximumSize(properties.getTrackedKeys()).build())
+          .get(id, ignored -> new LongAdder())
+          .increment();
+    }
+  }
+
+  public List<Long> hottest(String cacheName, int limit) {
+    Cache<Long, LongAdder> counter = counters.get(cacheName);
+    if (counter == null) {
+      return List.of();
+    }
+    return counter.asMap().entrySet().stream()
+        .sorted(Comparator.comparingLong(entry -> -entry.getValue().sum()))
+        .limit(limit)
+        .map(Map.Entry::getKey)
+        .toList();
+  }
+
+  public Map<String, List<Long>> loadSnapshot() {
+    Path file = properties.getSnapshotFile();
+    if (!Files.isReadable(file)) {
+      return Map.of();
+    }
+    try {
+      return objectMapper.readValue(file.toFile(), new TypeReference<>() {});
+    } catch (IOException e) {
+      log.warn("Could not read hot key snapshot {}: {}", file, e.getMessage());
+      return Map.of();
+    }
+  }
+
+  @PreDestroy
+  public void saveSnapshot() {
+    if (!properties.isSaveSnapshot()) {
+      return;
+    }
+    Map<String, List<Long>> snapshot = new LinkedHashMap<>();
+    counters.keySet().forEach(name -> snapshot.put(name, hottest(name, properties.getHotKeys())));
+    if (snapshot.values().stream().allMatch(List::isEmpty)) {
+      return;
+    }
+
+    Path file = properties.getSnapshotFile();
+    try {
+      if (file.getParent() != null) {
+        Files.createDirectories(file.getParent());
+      }
+      objectMapper.writeValue(file.toFile(), snapshot);
+      log.info("Saved hot key snapshot to {}", file);
+    } catch (IOException e) {
+      log.warn("Could not write hot key snapshot {}: {}", file, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.api.projects.caches;
+
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+public class HotKeyTrackingCache implements Cache {
+
+  private final Cache delegate;
+  private final HotKeyTracker tracker;
+
+  public HotKeyTrackingCache(Cache delegate, HotKeyTracker tracker) {
+    this.delegate = delegate;
+    this.tracker = tracker;
+  }
+
+  @Override
+  @NonNull
+  public String getName() {
+    return delegate.getName();
+  }
+
+  @Override
+  @NonNull
+  public Object getNativeCache() {
+    return delegate.getNativeCache();
+  }
+
+  @Override
+  @Nullable
+  public ValueWrapper get(@NonNull Object key) {
+    tracker.recordAccess(getName(), key);
+    return delegate.get(key);
+  }
+
+  @Override
+  @Nullable
+  public <T> T get(@NonNull Object key, @Nullable Class<T> type) {
+    tracker.recordAccess(getName(), key);
+    return delegate.get(key, type);
+  }
+
+  @Override
+  @Nullable
+  public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+    tracker.recordAccess(getName(), key);
+    return delegate.get(key, valueLoader);
+  }
+
+  @Override
+  public void put(@NonNull Object key, @Nullable Object value) {
+    delegate.put(key, value);
+  }
+
+  @Override
+  public void evict(@NonNull Object key) {
+    delegate.evict(key);
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+  }
+}
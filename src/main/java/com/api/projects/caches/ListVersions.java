@@ -0,0 +1,78 @@
+package com.api.projects.caches;
+
+import com.api.projects.utils.ETags;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory change counters behind the ETags of the project and task list pages. Every version is
+ * taken from one sequence. Projects without a tracked version report the highest version evicted
+ * from the bounded map, which never repeats a value an earlier page was tagged with. Versions are
+ * bumped after the list caches have been invalidated, so a stale cached page is never tagged with a
+ * new version.
+ *
+ * <p>The counters are per node: every node bumps its own after applying a change, including changes
+ * received over the Redis invalidation bus, so the same number means a different state on each
+ * node. The epoch is therefore random per start and deliberately not shared, so ETags from a
+ * previous run or another node never match. Conditional list requests only get a 304 when they
+ * reach the node that issued the ETag, which behind a load balancer requires sticky routing; any
+ * other node answers with a full 200 and its own ETag.
+ */
+@Component
+public class ListVersions {
+
+  private static final long MAX_TRACKED_PROJECTS = 10_000;
+
+  private final String epoch = Long.toHexString(new SecureRandom().nextLong());
+  private final AtomicLong sequence = new AtomicLong();
+  private final AtomicLong projectsVersion = new AtomicLong();
+  private final AtomicLong tasksVersion = new AtomicLong();
+  private final AtomicLong untrackedProjectsVersion = new AtomicLong();
+  private final Cache<Long, Long> tasksVersionByProject =
+      Caffeine.newBuilder()
+          .maximumSize(MAX_TRACKED_PROJECTS)
+          .<Long, Long>evictionListener(
+              (projectId, version, cause) ->
+                  untrackedProjectsVersion.accumulateAndGet(version, Math::max))
+          .build();
+
+  public void projectsChanged() {
+    projectsVersion.set(sequence.incrementAndGet());
+  }
+
+  public void tasksChanged(Long projectId) {
+    long version = sequence.incrementAndGet();
+    tasksVersion.set(version);
+    if (projectId == null) {
+      untrackedProjectsVersion.set(version);
+      tasksVersionByProject.invalidateAll();
+    } else {
+      tasksVersionByProject.put(projectId, version);
+    }
+  }
+
+  public void tasksChanged(TaskDimensions... tasks) {
+    for (TaskDimensions task : tasks) {
+      if (task != null) {
+        tasksChanged(task.projectId());
+      }
+    }
+  }
+
+  public String projectsETag(ProjectPageKey key) {
+    return ETags.weak(epoch, projectsVersion.get(), key.hashCode());
+  }
+
+  public String tasksETag(TaskPageKey key) {
+    long version = key.projectId() == null ? tasksVersion.get() : tasksVersionOf(key.projectId());
+    return ETags.weak(epoch, version, key.hashCode());
+  }
+
+  private long tasksVersionOf(Long projectId) {
+    Long version = tasksVersionByProject.getIfPresent(projectId);
+    return version != null ? version : untrackedProjectsVersion.get();
+  }
+}
@@ -0,0 +1,63 @@
+package com.api.projects.caches;
+
+import com.api.projects.configs.CacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived record of ids that were looked up and not found, so repeated 404s for the same id
+ * do not reach the database until the entry expires or the id gets created.
+ */
+@Slf4j
+@Component
+public class MissingKeyCache {
+
+  private static final String CACHE_NAME = "missing-keys";
+
+  private final Cache<MissingKey, Boolean> missingKeys;
+  private final ObjectProvider<CacheInvalidationBus> cacheInvalidationBus;
+
+  public MissingKeyCache(
+      CacheProperties cacheProperties,
+      ObjectProvider<CacheInvalidationBus> cacheInvalidationBus,
+      MeterRegistry meterRegistry) {
+    CacheStatsCounter statsCounter = new CacheStatsCounter(meterRegistry, CACHE_NAME);
+    this.missingKeys =
+        Caffeine.newBuilder()
+            .expireAfterWrite(cacheProperties.getNegative().getTimeToLive())
+            .maximumSize(cacheProperties.getNegative().getMaximumSize())
+            .recordStats(() -> statsCounter)
+            .build();
+    statsCounter.registerSizeMetric(missingKeys);
+    this.cacheInvalidationBus = cacheInvalidationBus;
+  }
+
+  public boolean isMissing(String cacheName, Object key) {
+    return missingKeys.getIfPresent(new MissingKey(cacheName, key)) != null;
+  }
+
+  public void markMissing(String cacheName, Object key) {
+    log.debug("Caching missing key {} for cache '{}'", key, cacheName);
+    missingKeys.put(new MissingKey(cacheName, key), Boolean.TRUE);
+  }
+
+  public void clear(String cacheName, Object key) {
+    clearLocal(cacheName, key);
+    cacheInvalidationBus.ifAvailable(
+        bus -> bus.publish(CacheInvalidationMessage.evict(bus.getNodeId(), cacheName, key)));
+  }
+
+  public void clearLocal(String cacheName, Object key) {
+    missingKeys.invalidate(new MissingKey(cacheName, key));
+  }
+
+  public Cache<MissingKey, Boolean> getNativeCache() {
+    return missingKeys;
+  }
+
+  public record MissingKey(String cacheName, Object key) {}
+}
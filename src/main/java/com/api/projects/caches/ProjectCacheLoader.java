@@ -0,0 +1,28 @@
+package com.api.projects.caches;
+
+import com.api.projects.mappers.ProjectMapper;
+import com.api.projects.repositories.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectCacheLoader implements CacheEntryLoader {
+
+  private final ProjectRepository projectRepository;
+  private final ProjectMapper projectMapper;
+
+  @Override
+  public String cacheName() {
+    return "project";
+  }
+
+  @Override
+  public Object load(@NonNull Object key) {
+    log.debug("Refreshing project {} in cache", key);
+    return projectRepository.findById((Long) key).map(projectMapper::toResponse).orElse(null);
+  }
+}
@@ -0,0 +1,11 @@
+package com.api.projects.caches;
+
+import com.api.projects.dtos.project.ProjectFilterDTO;
+
+public record ProjectPageKey(int page, int size, String sortBy, String direction) {
+
+  public static ProjectPageKey of(ProjectFilterDTO filter) {
+    return new ProjectPageKey(
+        filter.getPage(), filter.getSize(), filter.getSortBy(), filter.getDirection());
+  }
+}
@@ -0,0 +1,24 @@
+package com.api.projects.caches;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.lang.NonNull;
+
+/**
+ * Caffeine cache whose loader is only used to refresh entries ahead of expiry. Lookups never load,
+ * so a miss still goes through the shared tier and the cached method, where concurrent misses for
+ * the same key are coalesced by {@code @Cacheable(sync = true)}.
+ */
+public class RefreshAheadCaffeineCache extends CaffeineCache {
+
+  public RefreshAheadCaffeineCache(
+      String name,
+      com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+      boolean allowNullValues) {
+    super(name, cache, allowNullValues);
+  }
+
+  @Override
+  protected Object lookup(@NonNull Object key) {
+    return getNativeCache().getIfPresent(key);
+  }
+}
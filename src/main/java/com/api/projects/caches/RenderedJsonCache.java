@@ -0,0 +1,62 @@
+package com.api.projects.caches;
+
+import com.api.projects.configs.CacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Rendered JSON of response DTOs, keyed weakly by the identity of the DTO instance. Cached DTOs are
+ * never mutated in place: evictions drop them and write-through replaces them with a copy, so the
+ * rendered bytes of an instance stay valid for as long as that instance is reachable and follow the
+ * invalidation of the {@code project}, {@code projects}, {@code task} and {@code tasks} caches.
+ */
+public class RenderedJsonCache {
+
+  private final ObjectMapper objectMapper;
+  private final long gzipMinSize;
+  private final Cache<Object, Rendered> rendered;
+
+  public RenderedJsonCache(ObjectMapper objectMapper, CacheProperties.RenderedJson properties) {
+    this.objectMapper = objectMapper;
+    this.gzipMinSize = properties.isGzip() ? properties.getGzipMinSize().toBytes() : Long.MAX_VALUE;
+    this.rendered =
+        Caffeine.newBuilder()
+            .weakKeys()
+            .maximumWeight(properties.getMaxSize().toBytes())
+            .<Object, Rendered>weigher((value, bytes) -> bytes.weight())
+            .build();
+  }
+
+  public Rendered render(Object value) {
+    return rendered.get(value, this::renderNow);
+  }
+
+  private Rendered renderNow(Object value) {
+    try {
+      byte[] json = objectMapper.writeValueAsBytes(value);
+      return new Rendered(json, json.length >= gzipMinSize ? gzip(json) : null);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static byte[] gzip(byte[] json) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(json);
+    }
+    return out.toByteArray();
+  }
+
+  public record Rendered(byte[] json, byte[] gzipped) {
+
+    int weight() {
+      return json.length + (gzipped != null ? gzipped.length : 0);
+    }
+  }
+}
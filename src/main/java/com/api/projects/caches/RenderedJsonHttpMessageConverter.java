@@ -0,0 +1,83 @@
+package com.api.projects.caches;
+
+import com.api.projects.dtos.pagination.PageResponseDTO;
+import com.api.projects.dtos.project.ProjectResponseDTO;
+import com.api.projects.dtos.task.TaskResponseDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.NonNull;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Writes project and task responses from {@link RenderedJsonCache}, so a cache hit is copied to the
+ * response stream instead of being serialized again. Gzipped bytes are sent when they were rendered
+ * and the client accepts them.
+ */
+public class RenderedJsonHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+  private final RenderedJsonCache renderedJsonCache;
+
+  public RenderedJsonHttpMessageConverter(RenderedJsonCache renderedJsonCache) {
+    super(MediaType.APPLICATION_JSON);
+    this.renderedJsonCache = renderedJsonCache;
+  }
+
+  @Override
+  protected boolean supports(@NonNull Class<?> clazz) {
+    return PageResponseDTO.class.isAssignableFrom(clazz)
+        || ProjectResponseDTO.class.isAssignableFrom(clazz)
+        || TaskResponseDTO.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  protected boolean canRead(MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  @NonNull
+  protected Object readInternal(
+      @NonNull Class<?> clazz, @NonNull HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException("Rendered JSON is write-only", inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(@NonNull Object value, @NonNull HttpOutputMessage outputMessage)
+      throws IOException {
+    RenderedJsonCache.Rendered rendered;
+    try {
+      rendered = renderedJsonCache.render(value);
+    } catch (UncheckedIOException e) {
+      throw new HttpMessageNotWritableException("Could not render JSON", e.getCause());
+    }
+
+    byte[] body = rendered.json();
+    if (rendered.gzipped() != null) {
+      outputMessage.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+      if (acceptsGzip()) {
+        outputMessage.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        body = rendered.gzipped();
+      }
+    }
+    outputMessage.getHeaders().setContentLength(body.length);
+    outputMessage.getBody().write(body);
+  }
+
+  private boolean acceptsGzip() {
+    if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+      HttpServletRequest request = attributes.getRequest();
+      String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+      return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+    return false;
+  }
+}
@@ -0,0 +1,71 @@
+package com.api.projects.caches;
+
+import com.api.projects.dtos.project.ProjectResponseDTO;
+import com.api.projects.dtos.task.TaskResponseDTO;
+import com.api.projects.repositories.ProjectRepository;
+import com.api.projects.repositories.TaskRepository;
+import com.api.projects.utils.ETags;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the current ETag of a project or task from the cached response when there is one, or
+ * from a query that only reads the update timestamps, so a conditional GET that ends in a 304 never
+ * loads and maps the entity. A task ETag includes its project's version because the project is
+ * embedded in the task response.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResourceETagResolver {
+
+  private static final String PROJECT_CACHE = "project";
+  private static final String TASK_CACHE = "task";
+
+  private final CacheManager cacheManager;
+  private final MissingKeyCache missingKeyCache;
+  private final ProjectRepository projectRepository;
+  private final TaskRepository taskRepository;
+
+  public Optional<String> currentProjectETag(Long id) {
+    ProjectResponseDTO cached = cached(PROJECT_CACHE, id, ProjectResponseDTO.class);
+    if (cached != null) {
+      return Optional.of(projectETag(cached));
+    }
+    if (missingKeyCache.isMissing(PROJECT_CACHE, id)) {
+      return Optional.empty();
+    }
+    return projectRepository.findUpdatedAtById(id).map(updatedAt -> ETags.of(id, updatedAt));
+  }
+
+  public Optional<String> currentTaskETag(Long id) {
+    TaskResponseDTO cached = cached(TASK_CACHE, id, TaskResponseDTO.class);
+    if (cached != null) {
+      return Optional.of(taskETag(cached));
+    }
+    if (missingKeyCache.isMissing(TASK_CACHE, id)) {
+      return Optional.empty();
+    }
+    return taskRepository
+        .findVersionById(id)
+        .map(version -> ETags.of(id, version.getUpdatedAt(), version.getProjectUpdatedAt()));
+  }
+
+  public String projectETag(ProjectResponseDTO project) {
+    return ETags.of(project.getId(), project.getUpdatedAt());
+  }
+
+  public String taskETag(TaskResponseDTO task) {
+    return ETags.of(
+        task.getId(),
+        task.getUpdatedAt(),
+        task.getProject() != null ? task.getProject().getUpdatedAt() : null);
+  }
+
+  private <T> T cached(String cacheName, Long id, Class<T> type) {
+    Cache cache = cacheManager.getCache(cacheName);
+    return cache != null ? cache.get(id, type) : null;
+  }
+}
@@ -0,0 +1,66 @@
+package com.api.projects.caches;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Binary (Smile) serializer for values stored in the shared Redis tier and for the invalidation
+ * messages exchanged between nodes. Type ids are limited to the application, JDK collections and
+ * java.time packages.
+ */
+public class SmileCacheSerializer implements RedisSerializer<Object> {
+
+  private final ObjectMapper mapper;
+
+  public SmileCacheSerializer() {
+    PolymorphicTypeValidator validator =
+        BasicPolymorphicTypeValidator.builder()
+            .allowIfSubType("com.api.projects.")
+            .allowIfSubType("java.util.")
+            .allowIfSubType("java.lang.")
+            .allowIfSubType("java.time.")
+            .build();
+
+    this.mapper =
+        SmileMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .activateDefaultTyping(
+                validator, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY)
+            .build();
+  }
+
+  @Override
+  public byte[] serialize(Object value) {
+    if (value == null) {
+      return new byte[0];
+    }
+    try {
+      return mapper.writeValueAsBytes(new Envelope(value));
+    } catch (IOException ex) {
+      throw new SerializationException("Could not serialize cache value", ex);
+    }
+  }
+
+  @Override
+  public Object deserialize(byte[] bytes) {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+    try {
+      return mapper.readValue(bytes, Envelope.class).value();
+    } catch (IOException ex) {
+      throw new SerializationException("Could not deserialize cache value", ex);
+    }
+  }
+
+  private record Envelope(Object value) {}
+}
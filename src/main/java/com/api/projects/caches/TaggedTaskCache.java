@@ -0,0 +1,146 @@
+package com.api.projects.caches;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import org.springframework.cache.Cache;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+public class TaggedTaskCache implements Cache {
+
+  private final Cache delegate;
+  private final TaskCacheTags tags;
+
+  public TaggedTaskCache(Cache delegate, TaskCacheTags tags) {
+    this.delegate = delegate;
+    this.tags = tags;
+  }
+
+  /**
+   * Evicts the pages a task write affects from every level of this node's cache. Keys are not
+   * broadcast one by one; the caller announces the write to the other nodes once.
+   */
+  public void evictMatching(TaskDimensions... tasks) {
+    forEachMatching(
+        tasks,
+        key -> {
+          if (delegate instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.evictUnannounced(key);
+          } else {
+            delegate.evict(key);
+          }
+        });
+  }
+
+  /**
+   * Applies a task write announced by another node. Only the local tier is evicted, since the
+   * writing node has already cleared the shared one.
+   */
+  public void evictMatchingLocal(TaskDimensions... tasks) {
+    forEachMatching(
+        tasks,
+        key -> {
+          if (delegate instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.evictLocal(key);
+          } else {
+            delegate.evict(key);
+          }
+        });
+  }
+
+  private void forEachMatching(TaskDimensions[] tasks, Consumer<TaskPageKey> eviction) {
+    for (TaskDimensions task : tasks) {
+      if (task == null) {
+        continue;
+      }
+      for (TaskPageKey key : tags.matching(task)) {
+        tags.recordEviction(key);
+        eviction.accept(key);
+        tags.unregister(key);
+      }
+    }
+  }
+
+  @Override
+  @NonNull
+  public String getName() {
+    return delegate.getName();
+  }
+
+  @Override
+  @NonNull
+  public Object getNativeCache() {
+    return delegate.getNativeCache();
+  }
+
+  @Override
+  @Nullable
+  public ValueWrapper get(@NonNull Object key) {
+    return recordAccess(key, delegate.get(key));
+  }
+
+  @Override
+  @Nullable
+  public <T> T get(@NonNull Object key, @Nullable Class<T> type) {
+    T value = delegate.get(key, type);
+    recordAccess(key, value);
+    return value;
+  }
+
+  @Override
+  @Nullable
+  public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+    // Registered before loading, so a task write committed during the load finds the key and its
+    // eviction waits for the load to finish instead of leaving the page it computed cached
+    if (key instanceof TaskPageKey pageKey) {
+      tags.register(pageKey);
+    }
+    boolean[] loaded = {false};
+    T value =
+        delegate.get(
+            key,
+            () -> {
+              loaded[0] = true;
+              return valueLoader.call();
+            });
+    if (key instanceof TaskPageKey pageKey && !loaded[0]) {
+      tags.recordHit(pageKey);
+    }
+    return value;
+  }
+
+  @Override
+  public void put(@NonNull Object key, @Nullable Object value) {
+    delegate.put(key, value);
+    if (key instanceof TaskPageKey pageKey) {
+      tags.register(pageKey);
+    }
+  }
+
+  @Override
+  public void evict(@NonNull Object key) {
+    delegate.evict(key);
+    if (key instanceof TaskPageKey pageKey) {
+      tags.unregister(pageKey);
+    }
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+    tags.clear();
+  }
+
+  private <T> T recordAccess(Object key, T value) {
+    if (key instanceof TaskPageKey pageKey) {
+      if (value != null) {
+        // A hit may come from the shared tier, so the page is (re)indexed on every read
+        tags.register(pageKey);
+        tags.recordHit(pageKey);
+      } else {
+        tags.unregister(pageKey);
+      }
+    }
+    return value;
+  }
+}
@@ -0,0 +1,28 @@
+package com.api.projects.caches;
+
+import com.api.projects.mappers.TaskMapper;
+import com.api.projects.repositories.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskCacheLoader implements CacheEntryLoader {
+
+  private final TaskRepository taskRepository;
+  private final TaskMapper taskMapper;
+
+  @Override
+  public String cacheName() {
+    return "task";
+  }
+
+  @Override
+  public Object load(@NonNull Object key) {
+    log.debug("Refreshing task {} in cache", key);
+    return taskRepository.findById((Long) key).map(taskMapper::toResponse).orElse(null);
+  }
+}
@@ -0,0 +1,108 @@
+package com.api.projects.caches;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Index of the cached "tasks" pages by the filter dimensions they were computed for. A page is
+ * tagged with its projectId, status and priority; a null dimension is tagged with the wildcard
+ * because such a page can contain tasks with any value on that dimension. Hit and eviction counts
+ * are kept for a bounded number of tags, since project tags come from client-supplied ids.
+ */
+@Component
+public class TaskCacheTags {
+
+  private static final String WILDCARD = "*";
+  private static final long MAX_TRACKED_TAGS = 1_000;
+
+  private final Map<String, Set<TaskPageKey>> keysByProjectTag = new ConcurrentHashMap<>();
+  private final Cache<String, TagStats> stats =
+      Caffeine.newBuilder().maximumSize(MAX_TRACKED_TAGS).executor(Runnable::run).build();
+
+  public void register(TaskPageKey key) {
+    keysByProjectTag.computeIfAbsent(projectTag(key), tag -> ConcurrentHashMap.newKeySet()).add(key);
+  }
+
+  public void unregister(TaskPageKey key) {
+    keysByProjectTag.computeIfPresent(
+        projectTag(key), (tag, keys) -> keys.remove(key) && keys.isEmpty() ? null : keys);
+  }
+
+  /**
+   * Caffeine eviction listener for the underlying cache, so pages dropped for size or expiry leave
+   * the index even if they are never looked up again.
+   */
+  public void onEviction(Object key, Object value, RemovalCause cause) {
+    if (key instanceof TaskPageKey pageKey) {
+      unregister(pageKey);
+    }
+  }
+
+  public void clear() {
+    keysByProjectTag.clear();
+  }
+
+  public Set<TaskPageKey> matching(TaskDimensions task) {
+    Set<TaskPageKey> result = new HashSet<>();
+    collect(keysByProjectTag.get(tag("projectId", task.projectId())), task, result);
+    collect(keysByProjectTag.get(tag("projectId", null)), task, result);
+    return result;
+  }
+
+  public void recordHit(TaskPageKey key) {
+    tagsOf(key).forEach(tag -> stats.get(tag, t -> new TagStats()).hits.increment());
+  }
+
+  public void recordEviction(TaskPageKey key) {
+    tagsOf(key).forEach(tag -> stats.get(tag, t -> new TagStats()).evictions.increment());
+  }
+
+  public Map<String, Map<String, Long>> snapshot() {
+    Map<String, Map<String, Long>> snapshot = new TreeMap<>();
+    stats.asMap().forEach(
+        (tag, tagStats) ->
+            snapshot.put(
+                tag,
+                Map.of(
+                    "hits", tagStats.hits.sum(),
+                    "evictions", tagStats.evictions.sum())));
+    return snapshot;
+  }
+
+  private void collect(Set<TaskPageKey> keys, TaskDimensions task, Set<TaskPageKey> result) {
+    if (keys == null) {
+      return;
+    }
+    for (TaskPageKey key : keys) {
+      if (key.matches(task)) {
+        result.add(key);
+      }
+    }
+  }
+
+  private static Set<String> tagsOf(TaskPageKey key) {
+    return Set.of(
+        projectTag(key), tag("status", key.status()), tag("priority", key.priority()));
+  }
+
+  private static String projectTag(TaskPageKey key) {
+    return tag("projectId", key.projectId());
+  }
+
+  private static String tag(String dimension, Object value) {
+    return dimension + ":" + (value == null ? WILDCARD : value);
+  }
+
+  private static final class TagStats {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+  }
+}
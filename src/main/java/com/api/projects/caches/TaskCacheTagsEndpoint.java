@@ -0,0 +1,20 @@
+package com.api.projects.caches;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "cachetags")
+public class TaskCacheTagsEndpoint {
+
+  private final TaskCacheTags taskCacheTags;
+
+  @ReadOperation
+  public Map<String, Map<String, Long>> tags() {
+    return taskCacheTags.snapshot();
+  }
+}
@@ -0,0 +1,57 @@
+package com.api.projects.caches;
+
+import com.api.projects.configs.CacheProperties;
+import com.api.projects.dtos.task.TaskResponseDTO;
+import com.api.projects.entities.Task;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskCacheWriter {
+
+  private static final String TASK_CACHE = "task";
+
+  private final CacheManager cacheManager;
+  private final CacheProperties cacheProperties;
+
+  public void writeThrough(Task task) {
+    Cache cache = cacheManager.getCache(TASK_CACHE);
+    if (cache == null) {
+      return;
+    }
+    if (!cacheProperties.isWriteThrough()) {
+      cache.evict(task.getId());
+      return;
+    }
+
+    TaskResponseDTO cached = cache.get(task.getId(), TaskResponseDTO.class);
+    if (cached == null) {
+      return;
+    }
+    if (isNewer(cached, task)) {
+      // A later update already reached the cache, keep it
+      return;
+    }
+
+    log.debug("Writing status/priority of task {} through to cache", task.getId());
+    cache.put(
+        task.getId(),
+        cached.toBuilder()
+            .status(task.getStatus())
+            .priority(task.getPriority())
+            .updatedAt(task.getUpdatedAt())
+            .updatedBy(task.getUpdatedBy())
+            .build());
+  }
+
+  private boolean isNewer(TaskResponseDTO cached, Task task) {
+    return cached.getUpdatedAt() != null
+        && task.getUpdatedAt() != null
+        && cached.getUpdatedAt().isAfter(task.getUpdatedAt());
+  }
+}
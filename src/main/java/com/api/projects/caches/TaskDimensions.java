@@ -0,0 +1,13 @@
+package com.api.projects.caches;
+
+import com.api.projects.entities.Task;
+import com.api.projects.enums.Priority;
+import com.api.projects.enums.Status;
+
+public record TaskDimensions(Long projectId, Status status, Priority priority) {
+
+  public static TaskDimensions of(Task task) {
+    Long projectId = task.getProject() != null ? task.getProject().getId() : null;
+    return new TaskDimensions(projectId, task.getStatus(), task.getPriority());
+  }
+}
@@ -0,0 +1,29 @@
+package com.api.projects.caches;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TaskListCacheInvalidator {
+
+  private static final String TASKS_CACHE = "tasks";
+
+  private final CacheManager cacheManager;
+  private final ObjectProvider<CacheInvalidationBus> cacheInvalidationBus;
+  private final ListVersions listVersions;
+
+  public void evict(TaskDimensions before, TaskDimensions after) {
+    Cache cache = cacheManager.getCache(TASKS_CACHE);
+    if (cache instanceof TaggedTaskCache taggedCache) {
+      taggedCache.evictMatching(before, after);
+      cacheInvalidationBus.ifAvailable(bus -> bus.publishTaskEviction(TASKS_CACHE, before, after));
+    } else if (cache != null) {
+      cache.clear();
+    }
+    listVersions.tasksChanged(before, after);
+  }
+}
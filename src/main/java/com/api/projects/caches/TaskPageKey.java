@@ -0,0 +1,32 @@
+package com.api.projects.caches;
+
+import com.api.projects.dtos.task.TaskFilterDTO;
+import com.api.projects.enums.Priority;
+import com.api.projects.enums.Status;
+
+public record TaskPageKey(
+    int page,
+    int size,
+    String sortBy,
+    String direction,
+    Status status,
+    Priority priority,
+    Long projectId) {
+
+  public static TaskPageKey of(TaskFilterDTO filter) {
+    return new TaskPageKey(
+        filter.getPage(),
+        filter.getSize(),
+        filter.getSortBy(),
+        filter.getDirection(),
+        filter.getStatus(),
+        filter.getPriority(),
+        filter.getProjectId());
+  }
+
+  public boolean matches(TaskDimensions task) {
+    return (projectId == null || projectId.equals(task.projectId()))
+        && (status == null || status == task.status())
+        && (priority == null || priority == task.priority());
+  }
+}
@@ -0,0 +1,159 @@
+package com.api.projects.caches;
+
+import java.util.concurrent.Callable;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Local Caffeine cache (L1) in front of the shared Redis cache (L2). Writes go to both levels and
+ * are broadcast so that other nodes drop their L1 copy. Redis failures degrade to a local-only
+ * cache instead of failing the request.
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+  @Getter private final Cache local;
+  private final Cache remote;
+  private final CacheInvalidationBus bus;
+
+  public TwoLevelCache(Cache local, Cache remote, CacheInvalidationBus bus) {
+    this.local = local;
+    this.remote = remote;
+    this.bus = bus;
+  }
+
+  @Override
+  @NonNull
+  public String getName() {
+    return local.getName();
+  }
+
+  @Override
+  @NonNull
+  public Object getNativeCache() {
+    return local.getNativeCache();
+  }
+
+  @Override
+  @Nullable
+  public ValueWrapper get(@NonNull Object key) {
+    ValueWrapper value = local.get(key);
+    if (value != null) {
+      return value;
+    }
+    value = getRemote(key);
+    if (value != null) {
+      local.put(key, value.get());
+    }
+    return value;
+  }
+
+  @Override
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public <T> T get(@NonNull Object key, @Nullable Class<T> type) {
+    ValueWrapper value = get(key);
+    if (value == null || value.get() == null) {
+      return null;
+    }
+    if (type != null && !type.isInstance(value.get())) {
+      throw new IllegalStateException(
+          "Cached value is not of required type [" + type.getName() + "]: " + value.get());
+    }
+    return (T) value.get();
+  }
+
+  @Override
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+    return local.get(
+        key,
+        () -> {
+          ValueWrapper cached = getRemote(key);
+          if (cached != null) {
+            return (T) cached.get();
+          }
+          T value = valueLoader.call();
+          putRemote(key, value);
+          return value;
+        });
+  }
+
+  @Override
+  public void put(@NonNull Object key, @Nullable Object value) {
+    local.put(key, value);
+    putRemote(key, value);
+    bus.publish(CacheInvalidationMessage.evict(bus.getNodeId(), getName(), key));
+  }
+
+  @Override
+  public void evict(@NonNull Object key) {
+    evictRemote(key);
+    local.evict(key);
+    bus.publish(CacheInvalidationMessage.evict(bus.getNodeId(), getName(), key));
+  }
+
+  @Override
+  public void clear() {
+    try {
+      remote.clear();
+    } catch (RuntimeException ex) {
+      log.warn("Could not clear remote cache '{}': {}", getName(), ex.getMessage());
+    }
+    local.clear();
+    bus.publish(CacheInvalidationMessage.clear(bus.getNodeId(), getName()));
+  }
+
+  /**
+   * Evicts from both levels without broadcasting the key, for callers that announce the change to
+   * the other nodes themselves. The local entry is evicted first so that a load in flight, which
+   * also writes the shared tier, finishes before the shared entry is deleted.
+   */
+  public void evictUnannounced(Object key) {
+    local.evict(key);
+    evictRemote(key);
+    local.evict(key);
+  }
+
+  public void evictLocal(Object key) {
+    local.evict(key);
+  }
+
+  public void clearLocal() {
+    local.clear();
+  }
+
+  private ValueWrapper getRemote(Object key) {
+    try {
+      ValueWrapper value = remote.get(key);
+      return value == null ? null : new SimpleValueWrapper(value.get());
+    } catch (RuntimeException ex) {
+      log.warn("Could not read key '{}' from remote cache '{}': {}", key, getName(), ex.getMessage());
+      return null;
+    }
+  }
+
+  private void putRemote(Object key, Object value) {
+    if (value == null) {
+      return;
+    }
+    try {
+      remote.put(key, value);
+    } catch (RuntimeException ex) {
+      log.warn("Could not write key '{}' to remote cache '{}': {}", key, getName(), ex.getMessage());
+    }
+  }
+
+  private void evictRemote(Object key) {
+    try {
+      remote.evict(key);
+    } catch (RuntimeException ex) {
+      log.warn("Could not evict key '{}' from remote cache '{}': {}", key, getName(), ex.getMessage());
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.api.projects.caches;
+
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+public class TwoLevelCacheFactory {
+
+  private final RedisCacheManager redisCacheManager;
+  private final CacheInvalidationBus bus;
+
+  public TwoLevelCacheFactory(RedisCacheManager redisCacheManager, CacheInvalidationBus bus) {
+    this.redisCacheManager = redisCacheManager;
+    this.bus = bus;
+  }
+
+  public Cache decorate(Cache local) {
+    Cache remote = redisCacheManager.getCache(local.getName());
+    if (remote == null) {
+      return local;
+    }
+    TwoLevelCache cache = new TwoLevelCache(local, remote, bus);
+    bus.register(cache);
+    return cache;
+  }
+}
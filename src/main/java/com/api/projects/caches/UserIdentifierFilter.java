@@ -0,0 +1,66 @@
+package com.api.projects.caches;
+
+import com.api.projects.repositories.UserRepository;
+import com.api.projects.utils.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bloom filter of usernames and emails already taken, so availability checks for free values are
+ * answered without a query. A hit may be a false positive and has to be confirmed against the
+ * database. Rebuilt periodically to pick up users created on other instances.
+ */
+@Slf4j
+@Component
+public class UserIdentifierFilter {
+
+  private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+  private static final String USERNAME_PREFIX = "u:";
+  private static final String EMAIL_PREFIX = "e:";
+
+  private final UserRepository userRepository;
+  private final int expectedUsers;
+
+  private volatile BloomFilter filter;
+
+  public UserIdentifierFilter(
+      UserRepository userRepository,
+      @Value("${users.availability.expected-size:100000}") int expectedUsers) {
+    this.userRepository = userRepository;
+    this.expectedUsers = expectedUsers;
+    this.filter = BloomFilter.create(expectedUsers, FALSE_POSITIVE_PROBABILITY);
+  }
+
+  public boolean mightHaveUsername(String username) {
+    return filter.mightContain(USERNAME_PREFIX + username);
+  }
+
+  public boolean mightHaveEmail(String email) {
+    return filter.mightContain(EMAIL_PREFIX + email);
+  }
+
+  public void add(String username, String email) {
+    filter.put(USERNAME_PREFIX + username);
+    filter.put(EMAIL_PREFIX + email);
+  }
+
+  @PostConstruct
+  @Scheduled(
+      initialDelayString = "${users.availability.rebuild-interval:PT10M}",
+      fixedDelayString = "${users.availability.rebuild-interval:PT10M}")
+  public void rebuild() {
+    List<UserRepository.Identifiers> users = userRepository.findAllIdentifiers();
+    BloomFilter rebuilt =
+        BloomFilter.create(Math.max(expectedUsers, users.size() * 2L), FALSE_POSITIVE_PROBABILITY);
+    for (UserRepository.Identifiers user : users) {
+      rebuilt.put(USERNAME_PREFIX + user.getUsername());
+      rebuilt.put(EMAIL_PREFIX + user.getEmail());
+    }
+    filter = rebuilt;
+    log.info("User identifier filter rebuilt with {} users", users.size());
+  }
+}
@@ -0,0 +1,41 @@
+package com.api.projects.configs;
+
+import java.util.Map;
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+  /**
+   * Carries the submitting thread's MDC, and so its request id, into tasks run on the
+   * auto-configured executor used by {@code @Async} methods.
+   */
+  @Bean
+  public TaskDecorator mdcTaskDecorator() {
+    return task -> {
+      Map<String, String> context = MDC.getCopyOfContextMap();
+      return () -> {
+        Map<String, String> previous = MDC.getCopyOfContextMap();
+        if (context == null) {
+          MDC.clear();
+        } else {
+          MDC.setContextMap(context);
+        }
+        try {
+          task.run();
+        } finally {
+          if (previous == null) {
+            MDC.clear();
+          } else {
+            MDC.setContextMap(previous);
+          }
+        }
+      };
+    };
+  }
+}
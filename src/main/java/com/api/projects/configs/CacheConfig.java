@@ -1,30 +1,167 @@
 package com.api.projects.configs;
 
+import com.api.projects.caches.CacheEntryLoader;
+import com.api.projects.caches.CacheEntryWeigher;
+import com.api.projects.caches.CacheStatsCounter;
+import com.api.projects.caches.CacheStatsMeterBinderProvider;
+import com.api.projects.caches.ChangeNotifyingCache;
+import com.api.projects.caches.HotKeyTracker;
+import com.api.projects.caches.HotKeyTrackingCache;
+import com.api.projects.caches.ListVersions;
+import com.api.projects.caches.RefreshAheadCaffeineCache;
+import com.api.projects.caches.TaggedTaskCache;
+import com.api.projects.caches.TaskCacheTags;
+import com.api.projects.caches.TwoLevelCacheFactory;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
 public class CacheConfig {
 
+  private static final String PROJECT_CACHE = "project";
+  private static final String PROJECTS_CACHE = "projects";
+  private static final String TASKS_CACHE = "tasks";
+  private static final List<String> CACHE_NAMES =
+      List.of(PROJECT_CACHE, PROJECTS_CACHE, "task", TASKS_CACHE);
+  private static final Set<String> SINGLE_ENTRY_CACHES = Set.of("project", "task");
+
   @Bean
-  public CacheManager cacheManager() {
+  public CacheManager cacheManager(
+      CacheProperties properties,
+      TaskCacheTags taskCacheTags,
+      HotKeyTracker hotKeyTracker,
+      ListVersions listVersions,
+      List<CacheEntryLoader> cacheEntryLoaders,
+      ObjectProvider<TwoLevelCacheFactory> twoLevelCacheFactory,
+      MeterRegistry meterRegistry) {
+    TwoLevelCacheFactory sharedTier = twoLevelCacheFactory.getIfAvailable();
     CaffeineCacheManager cacheManager =
-        new CaffeineCacheManager("project", "projects", "task", "tasks");
-    cacheManager.setCaffeine(caffeineCacheBuilder());
+        new CaffeineCacheManager() {
+          @Override
+          @NonNull
+          protected Cache adaptCaffeineCache(
+              @NonNull String name,
+              @NonNull com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+            Cache adapted =
+                cache instanceof LoadingCache
+                    ? new RefreshAheadCaffeineCache(name, cache, isAllowNullValues())
+                    : super.adaptCaffeineCache(name, cache);
+            if (PROJECTS_CACHE.equals(name)) {
+              adapted = new ChangeNotifyingCache(adapted, key -> listVersions.projectsChanged());
+            } else if (PROJECT_CACHE.equals(name)) {
+              adapted =
+                  new ChangeNotifyingCache(
+                      adapted, key -> listVersions.tasksChanged(key instanceof Long id ? id : null));
+            }
+            if (sharedTier != null) {
+              adapted = sharedTier.decorate(adapted);
+            }
+            if (SINGLE_ENTRY_CACHES.contains(name)) {
+              return new HotKeyTrackingCache(adapted, hotKeyTracker);
+            }
+            return TASKS_CACHE.equals(name) ? new TaggedTaskCache(adapted, taskCacheTags) : adapted;
+          }
+        };
+
+    Map<String, CacheEntryLoader> loaders =
+        cacheEntryLoaders.stream()
+            .collect(Collectors.toMap(CacheEntryLoader::cacheName, Function.identity()));
+
+    validateHeapShares(properties);
+    for (String name : CACHE_NAMES) {
+      CacheProperties.Spec spec =
+          properties.getCaches().getOrDefault(name, new CacheProperties.Spec());
+      CacheEntryLoader loader = loaders.get(name);
+      Caffeine<Object, Object> builder =
+          caffeineCacheBuilder(name, spec, properties, loader != null, meterRegistry);
+      // With a shared tier a page evicted from L1 can still be served from Redis, so it stays
+      // indexed until it is evicted explicitly or a read misses on both levels
+      if (TASKS_CACHE.equals(name) && sharedTier == null) {
+        builder.evictionListener(taskCacheTags::onEviction);
+      }
+      cacheManager.registerCustomCache(
+          name, loader != null ? builder.build(loader) : builder.build());
+    }
     return cacheManager;
   }
 
-  private Caffeine<Object, Object> caffeineCacheBuilder() {
-    return Caffeine.newBuilder()
-        .maximumSize(500)
-        .expireAfterAccess(10, TimeUnit.MINUTES)
-        .recordStats();
+  @Bean
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public CacheMeterBinderProvider<Cache> cacheStatsMeterBinderProvider() {
+    return new CacheStatsMeterBinderProvider();
+  }
+
+  private Caffeine<Object, Object> caffeineCacheBuilder(
+      String name,
+      CacheProperties.Spec spec,
+      CacheProperties properties,
+      boolean loading,
+      MeterRegistry meterRegistry) {
+    long maximumWeight = (long) (properties.getMaxHeap().toBytes() * spec.getHeapShare());
+
+    Caffeine<Object, Object> builder =
+        Caffeine.newBuilder()
+            .maximumWeight(maximumWeight)
+            .weigher(new CacheEntryWeigher())
+            .recordStats(() -> new CacheStatsCounter(meterRegistry, name));
+
+    if (spec.getExpireAfterWrite() != null) {
+      builder.expireAfterWrite(spec.getExpireAfterWrite());
+    }
+    if (spec.getExpireAfterAccess() != null) {
+      builder.expireAfterAccess(spec.getExpireAfterAccess());
+    }
+    if (spec.getRefreshAfterWrite() != null) {
+      if (loading) {
+        builder.refreshAfterWrite(spec.getRefreshAfterWrite());
+      } else {
+        log.warn("Cache '{}' has no loader, refresh-after-write is ignored", name);
+      }
+    }
+
+    log.info(
+        "Cache '{}' bounded to {} bytes, expireAfterWrite={}, expireAfterAccess={}, refreshAfterWrite={}",
+        name,
+        maximumWeight,
+        spec.getExpireAfterWrite(),
+        spec.getExpireAfterAccess(),
+        loading ? spec.getRefreshAfterWrite() : null);
+    return builder;
+  }
+
+  private void validateHeapShares(CacheProperties properties) {
+    double total =
+        properties.getCaches().entrySet().stream()
+            .filter(entry -> CACHE_NAMES.contains(entry.getKey()))
+            .map(Map.Entry::getValue)
+            .mapToDouble(CacheProperties.Spec::getHeapShare)
+            .sum();
+    if (total > 1.0) {
+      throw new IllegalStateException(
+          "Cache heap shares add up to " + total + ", they must not exceed 1.0");
+    }
   }
 }
@@ -0,0 +1,77 @@
+package com.api.projects.configs;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache")
+public class CacheProperties {
+
+  private DataSize maxHeap = DataSize.ofMegabytes(64);
+
+  private boolean writeThrough = true;
+
+  private Map<String, Spec> caches = new LinkedHashMap<>();
+
+  private Redis redis = new Redis();
+
+  private Negative negative = new Negative();
+
+  private WarmUp warmUp = new WarmUp();
+
+  private RenderedJson renderedJson = new RenderedJson();
+
+  @Getter
+  @Setter
+  public static class Spec {
+    private double heapShare = 0.25;
+    private Duration expireAfterWrite;
+    private Duration expireAfterAccess;
+    private Duration refreshAfterWrite;
+  }
+
+  @Getter
+  @Setter
+  public static class Redis {
+    private boolean enabled = false;
+    private String channel = "projects:cache-invalidation";
+    private String keyPrefix = "projects:";
+    private Duration timeToLive = Duration.ofMinutes(10);
+  }
+
+  @Getter
+  @Setter
+  public static class Negative {
+    private Duration timeToLive = Duration.ofSeconds(30);
+    private long maximumSize = 10_000;
+  }
+
+  @Getter
+  @Setter
+  public static class WarmUp {
+    private boolean enabled = true;
+    /** Must live on persistent storage, or every redeploy starts with nothing to warm up. */
+    private Path snapshotFile = Path.of("data", "hot-keys.json");
+    private boolean saveSnapshot = true;
+    private int hotKeys = 200;
+    private long trackedKeys = 10_000;
+    private int parallelism = 4;
+    private Duration timeout = Duration.ofSeconds(30);
+  }
+
+  @Getter
+  @Setter
+  public static class RenderedJson {
+    private boolean enabled = false;
+    private DataSize maxSize = DataSize.ofMegabytes(16);
+    private boolean gzip = false;
+    private DataSize gzipMinSize = DataSize.ofKilobytes(1);
+  }
+}
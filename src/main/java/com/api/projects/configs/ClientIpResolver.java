@@ -0,0 +1,77 @@
+package com.api.projects.configs;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the client address used as the rate limit key. {@code X-Forwarded-For} is only honoured
+ * when the connection comes from a trusted proxy, and then the header is read right to left up to
+ * the first address that is not itself a trusted proxy, so entries a client prepends are ignored.
+ */
+@Component
+public class ClientIpResolver {
+
+  private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+  private final List<IpAddressMatcher> trustedProxies;
+
+  public ClientIpResolver(RateLimitProperties properties) {
+    this.trustedProxies =
+        properties.getTrustedProxies().stream().map(IpAddressMatcher::new).toList();
+  }
+
+  public String resolve(HttpServletRequest request) {
+    String remoteAddress = request.getRemoteAddr();
+    String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+    if (forwardedFor == null || !isTrusted(remoteAddress)) {
+      return remoteAddress;
+    }
+
+    String[] hops = forwardedFor.split(",");
+    String client = remoteAddress;
+    for (int i = hops.length - 1; i >= 0; i--) {
+      String hop = hops[i].trim();
+      if (!isIpLiteral(hop)) {
+        return client;
+      }
+      client = hop;
+      if (!isTrusted(hop)) {
+        return hop;
+      }
+    }
+    return client;
+  }
+
+  private boolean isTrusted(String address) {
+    if (!isIpLiteral(address)) {
+      return false;
+    }
+    for (IpAddressMatcher proxy : trustedProxies) {
+      if (proxy.matches(address)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // Keeps IpAddressMatcher from resolving arbitrary header values as host names
+  private static boolean isIpLiteral(String value) {
+    if (value == null || value.isEmpty()) {
+      return false;
+    }
+    boolean ipv6 = value.indexOf(':') >= 0;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      boolean valid =
+          ipv6
+              ? Character.digit(c, 16) >= 0 || c == ':' || c == '.'
+              : c >= '0' && c <= '9' || c == '.';
+      if (!valid) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,168 @@
+package com.api.projects.configs;
+
+import com.api.projects.controllers.advice.ProblemDetail;
+import com.api.projects.utils.AdaptiveConcurrencyLimit;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Sheds load with 503 once the number of in-flight API requests reaches an {@link
+ * AdaptiveConcurrencyLimit} driven by their latency, so excess work is refused up front instead of
+ * waiting in the container's queue. Writes may only fill part of the limit, which keeps capacity
+ * for reads when the service is saturated. Requests on {@code unsampled-paths} still hold a slot
+ * but do not feed their latency to the limit, and 503 responses are not counted as failures since
+ * they are the service's own load shedding, not a sign of it breaking down. Only created, and its
+ * meters only registered, when {@code concurrency-limit.enabled} is set.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "concurrency-limit", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+  public enum Partition {
+    READ,
+    WRITE
+  }
+
+  private final AdaptiveConcurrencyLimit limit;
+  private final ConcurrencyLimitProperties properties;
+  private final String retryAfter;
+  private final List<PathPattern> unsampledPaths;
+  private final Map<Partition, Counter> rejections = new EnumMap<>(Partition.class);
+  private final byte[] rejectionBody;
+
+  public ConcurrencyLimitFilter(
+      ConcurrencyLimitProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper)
+      throws JsonProcessingException {
+    this.properties = properties;
+    this.limit =
+        new AdaptiveConcurrencyLimit(
+            properties.getInitialLimit(), properties.getMinLimit(), properties.getMaxLimit());
+    this.retryAfter = String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds()));
+    this.unsampledPaths =
+        properties.getUnsampledPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+    this.rejectionBody =
+        objectMapper.writeValueAsBytes(
+            new ProblemDetail(
+                "Service unavailable",
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "The service is overloaded, retry after the number of seconds in the Retry-After"
+                    + " header",
+                null,
+                null,
+                Map.of()));
+
+    Gauge.builder("concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+        .register(meterRegistry);
+    Gauge.builder("concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInFlight)
+        .register(meterRegistry);
+    Gauge.builder("concurrency.queue", limit, AdaptiveConcurrencyLimit::getEstimatedQueue)
+        .description("Requests estimated to be queued inside the service")
+        .register(meterRegistry);
+    for (Partition partition : Partition.values()) {
+      rejections.put(
+          partition,
+          meterRegistry.counter(
+              "concurrency.rejected", "partition", partition.name().toLowerCase()));
+    }
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    Partition partition = partitionOf(request);
+    double share = partition == Partition.READ ? 1.0 : properties.getWriteShare();
+    if (!limit.tryAcquire(share)) {
+      reject(response, partition);
+      return;
+    }
+
+    if (isUnsampled(request)) {
+      try {
+        filterChain.doFilter(request, response);
+      } finally {
+        limit.release();
+      }
+      return;
+    }
+
+    long start = System.nanoTime();
+    boolean dropped = true;
+    try {
+      filterChain.doFilter(request, response);
+      int status = response.getStatus();
+      dropped =
+          status >= HttpStatus.INTERNAL_SERVER_ERROR.value()
+              && status != HttpStatus.SERVICE_UNAVAILABLE.value();
+    } finally {
+      limit.release(System.nanoTime() - start, dropped);
+    }
+  }
+
+  private boolean isUnsampled(HttpServletRequest request) {
+    if (unsampledPaths.isEmpty()) {
+      return false;
+    }
+    PathContainer path =
+        PathContainer.parsePath(
+            request.getRequestURI().substring(request.getContextPath().length()));
+    for (PathPattern pattern : unsampledPaths) {
+      if (pattern.matches(path)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void reject(HttpServletResponse response, Partition partition) throws IOException {
+    rejections.get(partition).increment();
+    if (log.isDebugEnabled()) {
+      log.debug("Concurrency limit {} reached, shedding {} request", limit.getLimit(), partition);
+    }
+
+    response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setContentLength(rejectionBody.length);
+    response.getOutputStream().write(rejectionBody);
+  }
+
+  private static Partition partitionOf(HttpServletRequest request) {
+    String method = request.getMethod();
+    return HttpMethod.GET.matches(method)
+            || HttpMethod.HEAD.matches(method)
+            || HttpMethod.OPTIONS.matches(method)
+        ? Partition.READ
+        : Partition.WRITE;
+  }
+
+  public AdaptiveConcurrencyLimit getLimit() {
+    return limit;
+  }
+}
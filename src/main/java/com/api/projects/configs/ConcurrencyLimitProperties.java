@@ -0,0 +1,38 @@
+package com.api.projects.configs;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+  /**
+   * Off until the limits have been tuned against the deployment's Tomcat thread pool; the limiter
+   * starts at {@code initialLimit} and only grows while requests keep it at least half full.
+   */
+  private boolean enabled = false;
+
+  private int initialLimit = 20;
+
+  private int minLimit = 4;
+
+  private int maxLimit = 200;
+
+  /** Fraction of the limit that writes may occupy; reads may use all of it. */
+  private double writeShare = 0.5;
+
+  private Duration retryAfter = Duration.ofSeconds(1);
+
+  /**
+   * Paths whose requests hold a slot but are not sampled, because their latency is dominated by
+   * password hashing on its own bounded pool rather than by queuing in the service.
+   */
+  private List<String> unsampledPaths =
+      new ArrayList<>(List.of("/api/v1/auth/**", "/api/v1/users"));
+}
@@ -0,0 +1,20 @@
+package com.api.projects.configs;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "password-hashing")
+public class PasswordHashingProperties {
+
+  private int strength = 10;
+
+  private int threads = Runtime.getRuntime().availableProcessors();
+
+  private int queueCapacity = 64;
+
+  private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,109 @@
+package com.api.projects.configs;
+
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AbstractCompareAndSwapBasedProxyManager;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AsyncCompareAndSwapOperation;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.CompareAndSwapOperation;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Keeps rate limit buckets in {@code tb_rate_limit_buckets} so every instance draws from the same
+ * tokens. Each update is a compare-and-swap on the row version; bucket4j retries with fresh state
+ * when another instance won the race.
+ */
+@Slf4j
+public class PostgresBucketProxyManager extends AbstractCompareAndSwapBasedProxyManager<String> {
+
+  private static final String SELECT_SQL =
+      "SELECT state, version FROM tb_rate_limit_buckets WHERE bucket_key = ?";
+  private static final String INSERT_SQL =
+      "INSERT INTO tb_rate_limit_buckets (bucket_key, state, version, expires_at) "
+          + "VALUES (?, ?, 0, ?) ON CONFLICT (bucket_key) DO NOTHING";
+  private static final String UPDATE_SQL =
+      "UPDATE tb_rate_limit_buckets SET state = ?, version = version + 1, expires_at = ? "
+          + "WHERE bucket_key = ? AND version = ?";
+  private static final String DELETE_SQL = "DELETE FROM tb_rate_limit_buckets WHERE bucket_key = ?";
+  private static final String DELETE_EXPIRED_SQL =
+      "DELETE FROM tb_rate_limit_buckets WHERE expires_at < ?";
+  private static final String ASYNC_NOT_SUPPORTED =
+      "Async mode is not supported by the Postgres rate limit backend, use the blocking API";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Duration idleTimeout;
+
+  public PostgresBucketProxyManager(JdbcTemplate jdbcTemplate, Duration idleTimeout) {
+    super(ClientSideConfig.getDefault());
+    this.jdbcTemplate = jdbcTemplate;
+    this.idleTimeout = idleTimeout;
+  }
+
+  @Override
+  protected CompareAndSwapOperation beginCompareAndSwapOperation(String key) {
+    return new CompareAndSwapOperation() {
+
+      private Long version;
+
+      @Override
+      public Optional<byte[]> getStateData() {
+        List<byte[]> states =
+            jdbcTemplate.query(
+                SELECT_SQL,
+                (rs, rowNum) -> {
+                  version = rs.getLong("version");
+                  return rs.getBytes("state");
+                },
+                key);
+        if (states.isEmpty()) {
+          version = null;
+          return Optional.empty();
+        }
+        return Optional.of(states.get(0));
+      }
+
+      @Override
+      public boolean compareAndSwap(byte[] originalData, byte[] newData) {
+        Timestamp expiresAt = Timestamp.valueOf(LocalDateTime.now().plus(idleTimeout));
+        if (version == null) {
+          return jdbcTemplate.update(INSERT_SQL, key, newData, expiresAt) == 1;
+        }
+        return jdbcTemplate.update(UPDATE_SQL, newData, expiresAt, key, version) == 1;
+      }
+    };
+  }
+
+  @Override
+  protected AsyncCompareAndSwapOperation beginAsyncCompareAndSwapOperation(String key) {
+    throw new UnsupportedOperationException(ASYNC_NOT_SUPPORTED);
+  }
+
+  @Override
+  public void removeProxy(String key) {
+    jdbcTemplate.update(DELETE_SQL, key);
+  }
+
+  @Override
+  protected CompletableFuture<Void> removeAsync(String key) {
+    throw new UnsupportedOperationException(ASYNC_NOT_SUPPORTED);
+  }
+
+  @Override
+  public boolean isAsyncModeSupported() {
+    return false;
+  }
+
+  @Scheduled(
+      initialDelayString = "${rate-limit.postgres.purge-interval:PT5M}",
+      fixedDelayString = "${rate-limit.postgres.purge-interval:PT5M}")
+  public void purgeExpired() {
+    int deleted = jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.valueOf(LocalDateTime.now()));
+    log.debug("Deleted {} idle rate limit buckets", deleted);
+  }
+}
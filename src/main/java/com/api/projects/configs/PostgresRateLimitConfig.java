@@ -0,0 +1,18 @@
+package com.api.projects.configs;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@ConditionalOnProperty(name = "rate-limit.backend", havingValue = "postgres")
+public class PostgresRateLimitConfig {
+
+  @Bean
+  public PostgresBucketProxyManager postgresBucketProxyManager(
+      JdbcTemplate jdbcTemplate, RateLimitProperties properties) {
+    return new PostgresBucketProxyManager(
+        jdbcTemplate, properties.getPostgres().getIdleTimeout());
+  }
+}
@@ -1,34 +1,101 @@
 package com.api.projects.configs;
 
-import io.github.bucket4j.Bandwidth;
+import com.api.projects.caches.CacheStatsCounter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Configuration;
-
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.TokensInheritanceStrategy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
 
+/**
+ * Holds one token bucket per client and policy. The store is capped at {@code
+ * rate-limit.max-clients} entries and drops a bucket once it has been idle for a full refill
+ * period, at which point it would be full again anyway, so eviction never lets a client exceed its
+ * limit. When a reload changes a policy's bandwidth, existing buckets are reconfigured in place and
+ * keep their remaining tokens.
+ *
+ * <p>With {@code rate-limit.backend=postgres} the cached buckets are proxies to rows shared by all
+ * instances, so the limit holds cluster-wide. The configured optimization amortizes the database
+ * cost: batching merges concurrent requests for the same key into one round trip, and delaying
+ * lets each instance spend up to {@code max-unsynchronized-tokens} locally before writing back, at
+ * the price of that much overshoot per instance.
+ */
 @Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class RateLimitConfig {
 
-  @Value("${rate-limit.requests:10}")
-  private int requests;
+  private static final String CACHE_NAME = "rate-limit-buckets";
+
+  private final RateLimitProperties properties;
+  private final ProxyManager<String> proxyManager;
+  private final Cache<String, PolicyBucket> cache;
 
-  @Value("${rate-limit.duration:60}")
-  private int durationInSeconds;
+  public RateLimitConfig(
+      RateLimitProperties properties,
+      MeterRegistry meterRegistry,
+      ObjectProvider<ProxyManager<String>> proxyManager) {
+    this.properties = properties;
+    this.proxyManager =
+        properties.getBackend() == RateLimitProperties.Backend.POSTGRES
+            ? proxyManager.getObject()
+            : null;
 
-  private final Map<String, Bucket> cache = new ConcurrentHashMap<>();
+    CacheStatsCounter statsCounter = new CacheStatsCounter(meterRegistry, CACHE_NAME);
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaxClients())
+            .expireAfter(Expiry.accessing((String key, PolicyBucket value) -> value.period()))
+            .recordStats(() -> statsCounter)
+            .build();
+    statsCounter.registerSizeMetric(cache);
+  }
+
+  public Bucket resolveBucket(String key, RateLimitPolicy policy) {
+    String bucketKey = policy.name() + ":" + key;
+    PolicyBucket current = cache.get(bucketKey, k -> createNewBucket(k, policy));
+    if (!current.configuration().equals(policy.configuration())) {
+      current.bucket().replaceConfiguration(policy.configuration(), TokensInheritanceStrategy.AS_IS);
+      cache
+          .asMap()
+          .replace(
+              bucketKey,
+              current,
+              new PolicyBucket(current.bucket(), policy.configuration(), policy.period()));
+    }
+    return current.bucket();
+  }
 
-  public Bucket resolveBucket(String key) {
-    return cache.computeIfAbsent(key, k -> createNewBucket());
+  private PolicyBucket createNewBucket(String key, RateLimitPolicy policy) {
+    BucketConfiguration configuration = policy.configuration();
+    Bucket bucket =
+        proxyManager != null
+            ? proxyManager.builder().withOptimization(optimization()).build(key, configuration)
+            : Bucket.builder().addLimit(configuration.getBandwidths()[0]).build();
+    return new PolicyBucket(bucket, configuration, policy.period());
   }
 
-  private Bucket createNewBucket() {
-    Bandwidth limit =
-        Bandwidth.classic(
-            requests, Refill.intervally(requests, Duration.ofSeconds(durationInSeconds)));
-    return Bucket.builder().addLimit(limit).build();
+  private Optimization optimization() {
+    RateLimitProperties.Postgres postgres = properties.getPostgres();
+    return switch (postgres.getOptimization()) {
+      case NONE -> Optimization.NONE_OPTIMIZED;
+      case BATCHING -> Optimizations.batching();
+      case DELAYING ->
+          Optimizations.delaying(
+              new DelayParameters(
+                  postgres.getMaxUnsynchronizedTokens(), postgres.getMaxUnsynchronizedTimeout()));
+    };
   }
+
+  private record PolicyBucket(
+      Bucket bucket, BucketConfiguration configuration, Duration period) {}
 }
@@ -0,0 +1,136 @@
+package com.api.projects.configs;
+
+import com.api.projects.controllers.advice.ProblemDetail;
+import com.api.projects.services.TokenService;
+import com.api.projects.services.TokenService.VerifiedToken;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bucket4j.ConsumptionProbe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Enforces rate limits ahead of the security filter chain, so a throttled request is rejected
+ * before any authentication work. A bearer token keys the bucket on its subject only once the JWT
+ * filter has verified it and {@link TokenService} has cached the result; until then the request is
+ * limited by address, so a flood of forged tokens is throttled without a single signature check.
+ * Rejections write a response body serialized once at startup.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private static final String BEARER_PREFIX = "Bearer ";
+  private static final String REMAINING_HEADER = "X-Rate-Limit-Remaining";
+  private static final String RETRY_AFTER_SECONDS_HEADER = "X-Rate-Limit-Retry-After-Seconds";
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private final RateLimitConfig rateLimitConfig;
+  private final RateLimitPolicies rateLimitPolicies;
+  private final ClientIpResolver clientIpResolver;
+  private final TokenService tokenService;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+  private final byte[] rejectionBody;
+
+  public RateLimitFilter(
+      RateLimitConfig rateLimitConfig,
+      RateLimitPolicies rateLimitPolicies,
+      ClientIpResolver clientIpResolver,
+      TokenService tokenService,
+      MeterRegistry meterRegistry,
+      ObjectMapper objectMapper)
+      throws JsonProcessingException {
+    this.rateLimitConfig = rateLimitConfig;
+    this.rateLimitPolicies = rateLimitPolicies;
+    this.clientIpResolver = clientIpResolver;
+    this.tokenService = tokenService;
+    this.meterRegistry = meterRegistry;
+    this.rejectionBody =
+        objectMapper.writeValueAsBytes(
+            new ProblemDetail(
+                "Rate limit exceeded",
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too many requests, retry after the number of seconds in the Retry-After header",
+                null,
+                null,
+                Map.of()));
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    String clientIp = clientIpResolver.resolve(request);
+
+    RateLimitPolicy policy = rateLimitPolicies.resolve(request);
+    String clientKey = clientKey(request, clientIp);
+    ConsumptionProbe probe =
+        rateLimitConfig.resolveBucket(clientKey, policy).tryConsumeAndReturnRemaining(1);
+
+    if (probe.isConsumed()) {
+      response.addHeader(REMAINING_HEADER, String.valueOf(probe.getRemainingTokens()));
+      filterChain.doFilter(request, response);
+    } else {
+      reject(response, policy, clientKey, probe);
+    }
+  }
+
+  private void reject(
+      HttpServletResponse response,
+      RateLimitPolicy policy,
+      String clientKey,
+      ConsumptionProbe probe)
+      throws IOException {
+    String retryAfter =
+        String.valueOf((probe.getNanosToWaitForRefill() + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    rejections
+        .computeIfAbsent(
+            policy.name(),
+            name -> meterRegistry.counter("rate_limit.rejected", "policy", name))
+        .increment();
+    if (log.isDebugEnabled()) {
+      log.debug(
+          "Rate limit exceeded - Client: {}, Policy: {}, RetryAfter: {}s",
+          clientKey,
+          policy.name(),
+          retryAfter);
+    }
+
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+    response.setHeader(RETRY_AFTER_SECONDS_HEADER, retryAfter);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setContentLength(rejectionBody.length);
+    response.getOutputStream().write(rejectionBody);
+  }
+
+  // Authenticated callers are limited as themselves, whatever address they come from
+  private String clientKey(HttpServletRequest request, String clientIp) {
+    String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+    if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+      VerifiedToken verified =
+          tokenService.findVerified(authorization.substring(BEARER_PREFIX.length()));
+      if (verified != null) {
+        return "user:" + verified.subject();
+      }
+    }
+    return "ip:" + clientIp;
+  }
+}
@@ -0,0 +1,107 @@
+package com.api.projects.configs;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Current rate limit policies, matched in order with the top-level {@code rate-limit.requests} and
+ * {@code duration} as the fallback. {@link #reload()} re-reads {@code rate-limit.policies}, giving
+ * precedence to the YAML file at {@code rate-limit.policies-location} when one is configured, so
+ * limits can be changed without a restart.
+ */
+@Slf4j
+@Component
+public class RateLimitPolicies {
+
+  private static final String PREFIX = "rate-limit";
+
+  private final ConfigurableEnvironment environment;
+  private final ResourceLoader resourceLoader;
+
+  private volatile List<RateLimitPolicy> policies = List.of();
+
+  public RateLimitPolicies(ConfigurableEnvironment environment, ResourceLoader resourceLoader) {
+    this.environment = environment;
+    this.resourceLoader = resourceLoader;
+  }
+
+  public RateLimitPolicy resolve(HttpServletRequest request) {
+    String method = request.getMethod();
+    PathContainer path =
+        PathContainer.parsePath(
+            request.getRequestURI().substring(request.getContextPath().length()));
+    List<RateLimitPolicy> current = policies;
+    for (int i = 0; i < current.size() - 1; i++) {
+      if (current.get(i).matches(method, path)) {
+        return current.get(i);
+      }
+    }
+    return current.get(current.size() - 1);
+  }
+
+  public List<RateLimitPolicy> getPolicies() {
+    return policies;
+  }
+
+  @PostConstruct
+  public void reload() {
+    RateLimitProperties properties =
+        new Binder(propertySources(), new PropertySourcesPlaceholdersResolver(environment))
+            .bind(PREFIX, RateLimitProperties.class)
+            .orElseGet(RateLimitProperties::new);
+
+    List<RateLimitPolicy> reloaded = new ArrayList<>();
+    for (RateLimitProperties.Policy policy : properties.getPolicies()) {
+      reloaded.add(
+          RateLimitPolicy.of(
+              policy.getName(),
+              policy.getPaths(),
+              policy.getMethods(),
+              policy.getRequests(),
+              policy.getDuration()));
+    }
+    reloaded.add(
+        RateLimitPolicy.of(
+            RateLimitPolicy.DEFAULT_NAME,
+            List.of(),
+            List.of(),
+            properties.getRequests(),
+            properties.getDuration()));
+    policies = List.copyOf(reloaded);
+    log.info("Loaded {} rate limit policies", reloaded.size());
+  }
+
+  private List<ConfigurationPropertySource> propertySources() {
+    List<ConfigurationPropertySource> sources = new ArrayList<>();
+    String location = environment.getProperty(PREFIX + ".policies-location");
+    if (location != null && !location.isBlank()) {
+      Resource resource = resourceLoader.getResource(location);
+      try {
+        for (PropertySource<?> source :
+            new YamlPropertySourceLoader().load("rateLimitPolicies", resource)) {
+          ConfigurationPropertySources.from(source).forEach(sources::add);
+        }
+      } catch (IOException ex) {
+        throw new UncheckedIOException("Could not read rate limit policies from " + location, ex);
+      }
+    }
+    ConfigurationPropertySources.get(environment).forEach(sources::add);
+    return sources;
+  }
+}
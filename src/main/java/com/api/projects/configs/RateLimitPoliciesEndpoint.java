@@ -0,0 +1,38 @@
+package com.api.projects.configs;
+
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "ratelimits")
+public class RateLimitPoliciesEndpoint {
+
+  private final RateLimitPolicies rateLimitPolicies;
+
+  @ReadOperation
+  public List<Map<String, Object>> policies() {
+    return rateLimitPolicies.getPolicies().stream().map(this::describe).toList();
+  }
+
+  @WriteOperation
+  public List<Map<String, Object>> reload() {
+    rateLimitPolicies.reload();
+    return policies();
+  }
+
+  private Map<String, Object> describe(RateLimitPolicy policy) {
+    return Map.of(
+        "name", policy.name(),
+        "paths", policy.paths().stream().map(PathPattern::getPatternString).toList(),
+        "methods", policy.methods(),
+        "requests", policy.requests(),
+        "duration", policy.period().toSeconds());
+  }
+}
@@ -0,0 +1,57 @@
+package com.api.projects.configs;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.Refill;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * A class of requests sharing one bandwidth. An empty path or method list matches any request.
+ */
+public record RateLimitPolicy(
+    String name,
+    List<PathPattern> paths,
+    Set<String> methods,
+    Duration period,
+    BucketConfiguration configuration) {
+
+  public static final String DEFAULT_NAME = "default";
+
+  public static RateLimitPolicy of(
+      String name, List<String> paths, List<String> methods, int requests, int duration) {
+    Duration period = Duration.ofSeconds(duration);
+    return new RateLimitPolicy(
+        name,
+        paths.stream().map(PathPatternParser.defaultInstance::parse).toList(),
+        methods.stream().map(String::toUpperCase).collect(Collectors.toUnmodifiableSet()),
+        period,
+        BucketConfiguration.builder()
+            .addLimit(Bandwidth.classic(requests, Refill.intervally(requests, period)))
+            .build());
+  }
+
+  public boolean matches(String method, PathContainer path) {
+    if (!methods.isEmpty() && !methods.contains(method)) {
+      return false;
+    }
+    if (paths.isEmpty()) {
+      return true;
+    }
+    for (PathPattern pattern : paths) {
+      if (pattern.matches(path)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public long requests() {
+    return configuration.getBandwidths()[0].getCapacity();
+  }
+}
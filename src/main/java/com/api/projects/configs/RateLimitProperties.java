@@ -0,0 +1,72 @@
+package com.api.projects.configs;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+  private int requests = 10;
+
+  private int duration = 60;
+
+  private long maxClients = 100_000;
+
+  private List<String> trustedProxies = new ArrayList<>(List.of("127.0.0.1", "::1"));
+
+  private List<Policy> policies = new ArrayList<>();
+
+  private String policiesLocation;
+
+  private Backend backend = Backend.LOCAL;
+
+  private Postgres postgres = new Postgres();
+
+  public enum Backend {
+    LOCAL,
+    POSTGRES
+  }
+
+  public enum Optimization {
+    NONE,
+    BATCHING,
+    DELAYING
+  }
+
+  @Getter
+  @Setter
+  public static class Policy {
+
+    private String name;
+
+    private List<String> paths = new ArrayList<>();
+
+    private List<String> methods = new ArrayList<>();
+
+    private int requests;
+
+    private int duration = 60;
+  }
+
+  @Getter
+  @Setter
+  public static class Postgres {
+
+    private Optimization optimization = Optimization.BATCHING;
+
+    /** Tokens an instance may consume locally before writing back, when delaying. */
+    private long maxUnsynchronizedTokens = 5;
+
+    private Duration maxUnsynchronizedTimeout = Duration.ofSeconds(1);
+
+    private Duration idleTimeout = Duration.ofHours(1);
+
+    private Duration purgeInterval = Duration.ofMinutes(5);
+  }
+}
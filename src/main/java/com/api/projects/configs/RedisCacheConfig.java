@@ -0,0 +1,102 @@
+package com.api.projects.configs;
+
+import com.api.projects.caches.CacheInvalidationBus;
+import com.api.projects.caches.ListVersions;
+import com.api.projects.caches.MissingKeyCache;
+import com.api.projects.caches.SmileCacheSerializer;
+import com.api.projects.caches.TwoLevelCacheFactory;
+import com.api.projects.securities.TokenRevocationList;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(prefix = "cache.redis", name = "enabled", havingValue = "true")
+public class RedisCacheConfig {
+
+  @Bean
+  public RedisTemplate<String, Object> cacheRedisTemplate(RedisConnectionFactory connectionFactory) {
+    RedisTemplate<String, Object> template = new RedisTemplate<>();
+    template.setConnectionFactory(connectionFactory);
+    template.setKeySerializer(new StringRedisSerializer());
+    template.setValueSerializer(new SmileCacheSerializer());
+    return template;
+  }
+
+  @Bean
+  public CacheInvalidationBus cacheInvalidationBus(
+      RedisTemplate<String, Object> cacheRedisTemplate,
+      CacheProperties properties,
+      ObjectProvider<CacheManager> cacheManager,
+      ObjectProvider<MissingKeyCache> missingKeyCache,
+      ObjectProvider<ListVersions> listVersions,
+      ObjectProvider<TokenRevocationList> tokenRevocationList) {
+    return new CacheInvalidationBus(
+        cacheRedisTemplate,
+        properties.getRedis().getChannel(),
+        cacheManager,
+        missingKeyCache,
+        listVersions,
+        tokenRevocationList);
+  }
+
+  @Bean
+  public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+      RedisConnectionFactory connectionFactory,
+      CacheInvalidationBus cacheInvalidationBus,
+      CacheProperties properties) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(
+        cacheInvalidationBus, new ChannelTopic(properties.getRedis().getChannel()));
+    return container;
+  }
+
+  @Bean
+  public TwoLevelCacheFactory twoLevelCacheFactory(
+      RedisConnectionFactory connectionFactory,
+      CacheInvalidationBus cacheInvalidationBus,
+      CacheProperties properties) {
+    RedisCacheConfiguration defaults =
+        RedisCacheConfiguration.defaultCacheConfig()
+            .disableCachingNullValues()
+            .prefixCacheNameWith(properties.getRedis().getKeyPrefix())
+            .entryTtl(properties.getRedis().getTimeToLive())
+            .serializeValuesWith(
+                RedisSerializationContext.SerializationPair.fromSerializer(
+                    new SmileCacheSerializer()));
+
+    Map<String, RedisCacheConfiguration> perCache = new HashMap<>();
+    properties
+        .getCaches()
+        .forEach(
+            (name, spec) -> {
+              Duration ttl = spec.getExpireAfterWrite();
+              if (ttl != null) {
+                perCache.put(name, defaults.entryTtl(ttl));
+              }
+            });
+
+    RedisCacheManager redisCacheManager =
+        RedisCacheManager.builder(connectionFactory)
+            .cacheDefaults(defaults)
+            .withInitialCacheConfigurations(perCache)
+            .build();
+    redisCacheManager.initializeCaches();
+    return new TwoLevelCacheFactory(redisCacheManager, cacheInvalidationBus);
+  }
+}
@@ -0,0 +1,57 @@
+package com.api.projects.configs;
+
+import com.api.projects.utils.RequestIdGenerator;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.regex.Pattern;
+import lombok.NonNull;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Puts the request id and client address in the MDC for everything downstream, security filters
+ * included, and echoes the id in the response. A well-formed incoming {@code X-Request-Id} is kept
+ * so ids can be followed across services.
+ */
+@Component
+public class RequestIdFilter extends OncePerRequestFilter {
+
+  public static final String REQUEST_ID_HEADER = "X-Request-Id";
+  public static final String REQUEST_ID_KEY = "requestId";
+  public static final String CLIENT_IP_KEY = "ip";
+
+  // Anything else is replaced rather than written into logs as-is
+  private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._:-]{1,64}");
+
+  private final ClientIpResolver clientIpResolver;
+
+  public RequestIdFilter(ClientIpResolver clientIpResolver) {
+    this.clientIpResolver = clientIpResolver;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    String requestId = request.getHeader(REQUEST_ID_HEADER);
+    if (requestId == null || !VALID_REQUEST_ID.matcher(requestId).matches()) {
+      requestId = RequestIdGenerator.generate();
+    }
+
+    response.setHeader(REQUEST_ID_HEADER, requestId);
+    MDC.put(REQUEST_ID_KEY, requestId);
+    MDC.put(CLIENT_IP_KEY, clientIpResolver.resolve(request));
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      MDC.remove(REQUEST_ID_KEY);
+      MDC.remove(CLIENT_IP_KEY);
+    }
+  }
+}
@@ -1,23 +1,70 @@
 package com.api.projects.configs;
 
+import com.api.projects.caches.RenderedJsonCache;
+import com.api.projects.caches.RenderedJsonHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
 public class WebConfig implements WebMvcConfigurer {
 
-  private final RateLimitInterceptor rateLimitInterceptor;
+  private final CacheProperties cacheProperties;
+  private final ObjectMapper objectMapper;
 
-  public WebConfig(RateLimitInterceptor rateLimitInterceptor) {
-    this.rateLimitInterceptor = rateLimitInterceptor;
+  public WebConfig(CacheProperties cacheProperties, ObjectMapper objectMapper) {
+    this.cacheProperties = cacheProperties;
+    this.objectMapper = objectMapper;
+  }
+
+  @Bean
+  public FilterRegistrationBean<RequestIdFilter> requestIdFilterRegistration(
+      RequestIdFilter requestIdFilter) {
+    FilterRegistrationBean<RequestIdFilter> registration =
+        new FilterRegistrationBean<>(requestIdFilter);
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+
+  @Bean
+  public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(
+      RateLimitFilter rateLimitFilter) {
+    FilterRegistrationBean<RateLimitFilter> registration =
+        new FilterRegistrationBean<>(rateLimitFilter);
+    registration.addUrlPatterns("/api/*");
+    // Ahead of Spring Security's FilterChainProxy
+    registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 2);
+    return registration;
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "concurrency-limit", name = "enabled", havingValue = "true")
+  public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration(
+      ConcurrencyLimitFilter concurrencyLimitFilter) {
+    FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+        new FilterRegistrationBean<>(concurrencyLimitFilter);
+    registration.addUrlPatterns("/api/*");
+    // Throttled clients are turned away first, so they never hold a concurrency slot
+    registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+    return registration;
   }
 
   @Override
-  public void addInterceptors(InterceptorRegistry registry) {
-    registry
-        .addInterceptor(rateLimitInterceptor)
-        .addPathPatterns("/api/**")
-        .excludePathPatterns("/swagger-ui/**", "/v3/api-docs/**");
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    CacheProperties.RenderedJson renderedJson = cacheProperties.getRenderedJson();
+    if (renderedJson.isEnabled()) {
+      converters.add(
+          0,
+          new RenderedJsonHttpMessageConverter(new RenderedJsonCache(objectMapper, renderedJson)));
+    }
   }
 }
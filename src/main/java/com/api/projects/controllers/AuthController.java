@@ -1,13 +1,16 @@
 package com.api.projects.controllers;
 
 import com.api.projects.dtos.auth.LoginDTO;
+import com.api.projects.dtos.auth.RefreshTokenDTO;
 import com.api.projects.dtos.auth.TokenDTO;
 import com.api.projects.services.AuthService;
+import com.api.projects.services.TokenService.VerifiedToken;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -29,4 +32,28 @@ public class AuthController {
     TokenDTO token = authService.authenticate(login);
     return ResponseEntity.ok(token);
   }
+
+  @PostMapping("/refresh")
+  @Operation(
+      summary = "Refresh Token",
+      description =
+          "Exchanges a refresh token for a new access token and refresh token. The refresh token"
+              + " can only be used once. This is a public endpoint.")
+  public ResponseEntity<TokenDTO> refresh(@Valid @RequestBody RefreshTokenDTO request) {
+    TokenDTO token = authService.refresh(request);
+    return ResponseEntity.ok(token);
+  }
+
+  @PostMapping("/logout")
+  @Operation(
+      summary = "User Logout",
+      description =
+          "Revokes the access token used for this request and, when given, the refresh token.")
+  public ResponseEntity<Void> logout(
+      Authentication authentication, @RequestBody(required = false) RefreshTokenDTO request) {
+    VerifiedToken accessToken =
+        authentication.getDetails() instanceof VerifiedToken verified ? verified : null;
+    authService.logout(accessToken, request != null ? request.getRefreshToken() : null);
+    return ResponseEntity.noContent().build();
+  }
 }
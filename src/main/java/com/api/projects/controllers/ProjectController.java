@@ -1,22 +1,28 @@
 package com.api.projects.controllers;
 
+import com.api.projects.caches.ListVersions;
+import com.api.projects.caches.ProjectPageKey;
+import com.api.projects.caches.ResourceETagResolver;
 import com.api.projects.dtos.pagination.PageResponseDTO;
 import com.api.projects.dtos.project.ProjectFilterDTO;
 import com.api.projects.dtos.project.ProjectRequestDTO;
 import com.api.projects.dtos.project.ProjectResponseDTO;
 import com.api.projects.dtos.project.ProjectUpdateRequestDTO;
 import com.api.projects.services.ProjectService;
+import com.api.projects.utils.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,6 +31,8 @@ import java.util.List;
 @SecurityRequirement(name = "bearerAuth")
 public class ProjectController {
   private final ProjectService projectService;
+  private final ResourceETagResolver resourceETagResolver;
+  private final ListVersions listVersions;
 
   @PostMapping
   @PreAuthorize("hasAnyAuthority('ROLE_USER','ROLE_ADMIN')")
@@ -41,17 +49,34 @@ public class ProjectController {
       summary = "List Projects",
       description = "Retrieve a paginated list of projects with optional filtering")
   public ResponseEntity<PageResponseDTO<ProjectResponseDTO>> listProjects(
-      @Valid ProjectFilterDTO filter) {
+      @Valid ProjectFilterDTO filter,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    String etag = listVersions.projectsETag(ProjectPageKey.of(filter));
+    if (ETags.matches(ifNoneMatch, etag)) {
+      return ETags.revalidate(ResponseEntity.status(HttpStatus.NOT_MODIFIED), etag).build();
+    }
+
     var response = projectService.findByFilter(filter);
-    return ResponseEntity.ok(response);
+    return ETags.revalidate(ResponseEntity.ok(), etag).body(response);
   }
 
   @GetMapping("/{id}")
   @PreAuthorize("hasAnyAuthority('ROLE_USER','ROLE_ADMIN')")
   @Operation(summary = "Get Project by ID", description = "Retrieve a project by its ID")
-  public ResponseEntity<ProjectResponseDTO> getProjectById(@PathVariable Long id) {
+  public ResponseEntity<ProjectResponseDTO> getProjectById(
+      @PathVariable Long id,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    if (ifNoneMatch != null) {
+      Optional<String> current = resourceETagResolver.currentProjectETag(id);
+      if (current.isPresent() && ETags.matches(ifNoneMatch, current.get())) {
+        return ETags.revalidate(ResponseEntity.status(HttpStatus.NOT_MODIFIED), current.get())
+            .build();
+      }
+    }
+
     ProjectResponseDTO response = projectService.findById(id);
-    return ResponseEntity.ok(response);
+    return ETags.revalidate(ResponseEntity.ok(), resourceETagResolver.projectETag(response))
+        .body(response);
   }
 
   @PutMapping("/{id}")
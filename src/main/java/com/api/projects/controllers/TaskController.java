@@ -1,5 +1,8 @@
 package com.api.projects.controllers;
 
+import com.api.projects.caches.ListVersions;
+import com.api.projects.caches.ResourceETagResolver;
+import com.api.projects.caches.TaskPageKey;
 import com.api.projects.dtos.pagination.PageResponseDTO;
 import com.api.projects.dtos.task.TaskFilterDTO;
 import com.api.projects.dtos.task.TaskPriorityUpdateDTO;
@@ -7,16 +10,20 @@ import com.api.projects.dtos.task.TaskRequestDTO;
 import com.api.projects.dtos.task.TaskResponseDTO;
 import com.api.projects.dtos.task.TaskStatusUpdateDTO;
 import com.api.projects.services.TaskService;
+import com.api.projects.utils.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/tasks")
@@ -25,6 +32,8 @@ import org.springframework.web.bind.annotation.*;
 public class TaskController {
 
   private final TaskService taskService;
+  private final ResourceETagResolver resourceETagResolver;
+  private final ListVersions listVersions;
 
   @PostMapping
   @PreAuthorize("hasAnyAuthority('ROLE_USER','ROLE_ADMIN')")
@@ -37,9 +46,20 @@ public class TaskController {
   @GetMapping("/{id}")
   @PreAuthorize("hasAnyAuthority('ROLE_USER','ROLE_ADMIN')")
   @Operation(summary = "Get Task by ID", description = "Retrieve a task by its ID")
-  public ResponseEntity<TaskResponseDTO> getTaskById(@PathVariable Long id) {
+  public ResponseEntity<TaskResponseDTO> getTaskById(
+      @PathVariable Long id,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    if (ifNoneMatch != null) {
+      Optional<String> current = resourceETagResolver.currentTaskETag(id);
+      if (current.isPresent() && ETags.matches(ifNoneMatch, current.get())) {
+        return ETags.revalidate(ResponseEntity.status(HttpStatus.NOT_MODIFIED), current.get())
+            .build();
+      }
+    }
+
     TaskResponseDTO response = taskService.findById(id);
-    return ResponseEntity.ok(response);
+    return ETags.revalidate(ResponseEntity.ok(), resourceETagResolver.taskETag(response))
+        .body(response);
   }
 
   @GetMapping
@@ -47,9 +67,16 @@ public class TaskController {
   @Operation(
       summary = "Get Tasks with Filtering",
       description = "Retrieve a paginated list of tasks with optional filtering")
-  public ResponseEntity<PageResponseDTO<TaskResponseDTO>> getTasks(@Valid TaskFilterDTO filter) {
+  public ResponseEntity<PageResponseDTO<TaskResponseDTO>> getTasks(
+      @Valid TaskFilterDTO filter,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    String etag = listVersions.tasksETag(TaskPageKey.of(filter));
+    if (ETags.matches(ifNoneMatch, etag)) {
+      return ETags.revalidate(ResponseEntity.status(HttpStatus.NOT_MODIFIED), etag).build();
+    }
+
     PageResponseDTO<TaskResponseDTO> response = taskService.findByFilter(filter);
-    return ResponseEntity.ok(response);
+    return ETags.revalidate(ResponseEntity.ok(), etag).body(response);
   }
 
   @PutMapping("/{id}/status")
@@ -1,5 +1,6 @@
 package com.api.projects.controllers;
 
+import com.api.projects.dtos.user.UserAvailabilityDTO;
 import com.api.projects.dtos.user.UserRequestDTO;
 import com.api.projects.dtos.user.UserResponseDTO;
 import com.api.projects.services.UserService;
@@ -9,9 +10,11 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -30,4 +33,15 @@ public class UserController {
     UserResponseDTO response = userService.create(request);
     return ResponseEntity.status(HttpStatus.CREATED).body(response);
   }
+
+  @GetMapping("/availability")
+  @Operation(
+      summary = "Check Availability",
+      description =
+          "Checks whether a username and/or email are still free before signing up (public endpoint)")
+  public ResponseEntity<UserAvailabilityDTO> checkAvailability(
+      @RequestParam(required = false) String username,
+      @RequestParam(required = false) String email) {
+    return ResponseEntity.ok(userService.checkAvailability(username, email));
+  }
 }
@@ -3,9 +3,10 @@ package com.api.projects.controllers.advice;
 import com.api.projects.exceptions.BusinessException;
 import com.api.projects.exceptions.ConflictException;
 import com.api.projects.exceptions.NotFoundException;
-import com.api.projects.exceptions.RateLimitExceededException;
+import com.api.projects.exceptions.ServiceUnavailableException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -159,21 +160,21 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.CONFLICT).body(problem);
   }
 
-  @ExceptionHandler(RateLimitExceededException.class)
-  public ResponseEntity<ProblemDetail> handleRateLimitExceeded(
-      RateLimitExceededException ex, HttpServletRequest request) {
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<ProblemDetail> handleServiceUnavailable(
+      ServiceUnavailableException ex, HttpServletRequest request) {
 
     ProblemDetail problem =
         new ProblemDetail(
-            "Rate limit exceeded",
-            HttpStatus.TOO_MANY_REQUESTS.value(),
+            "Service unavailable",
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
             ex.getMessage(),
             getRequestPath(request));
 
     problem.setProperty("retryAfterSeconds", ex.getRetryAfterSeconds());
 
-    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
-        .header("X-Rate-Limit-Retry-After-Seconds", String.valueOf(ex.getRetryAfterSeconds()))
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
         .body(problem);
   }
 
@@ -0,0 +1,13 @@
+package com.api.projects.dtos.auth;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RefreshTokenDTO {
+
+  @NotEmpty(message = "Refresh token must not be empty")
+  private String refreshToken;
+}
@@ -1,3 +1,3 @@
 package com.api.projects.dtos.auth;
 
-public record TokenDTO(String token) {}
+public record TokenDTO(String token, String refreshToken) {}
@@ -2,13 +2,17 @@ package com.api.projects.dtos.project;
 
 import com.api.projects.dtos.user.UserResponseDTO;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ProjectResponseDTO {
   private Long id;
@@ -4,13 +4,17 @@ import com.api.projects.dtos.project.ProjectResponseDTO;
 import com.api.projects.enums.Priority;
 import com.api.projects.enums.Status;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class TaskResponseDTO {
   private Long id;
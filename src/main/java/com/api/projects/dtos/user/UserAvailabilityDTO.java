@@ -0,0 +1,6 @@
+package com.api.projects.dtos.user;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserAvailabilityDTO(Boolean usernameAvailable, Boolean emailAvailable) {}
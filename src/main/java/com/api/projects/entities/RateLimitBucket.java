@@ -0,0 +1,39 @@
+package com.api.projects.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Serialized bucket4j state shared by all instances when {@code rate-limit.backend} is {@code
+ * postgres}. Rows are read and swapped with plain JDBC by {@code PostgresBucketProxyManager}; the
+ * entity only defines the table.
+ */
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_rate_limit_buckets")
+public class RateLimitBucket {
+
+  @Id
+  @Column(name = "bucket_key")
+  private String bucketKey;
+
+  @Column(name = "state", nullable = false)
+  private byte[] state;
+
+  @Column(name = "version", nullable = false)
+  private long version;
+
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+}
@@ -0,0 +1,28 @@
+package com.api.projects.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_revoked_tokens")
+public class RevokedToken {
+
+  @Id
+  @Column(name = "token_id", length = 36)
+  private String tokenId;
+
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+}
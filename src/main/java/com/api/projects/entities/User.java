@@ -1,6 +1,7 @@
 package com.api.projects.entities;
 
 import com.api.projects.securities.Role;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -9,11 +10,15 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -25,11 +30,22 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "tb_users")
+@Table(
+    name = "tb_users",
+    uniqueConstraints = {
+      @UniqueConstraint(name = User.USERNAME_CONSTRAINT, columnNames = "username"),
+      @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email")
+    })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class User implements UserDetails {
 
+  public static final String USERNAME_CONSTRAINT = "uk_users_username";
+  public static final String EMAIL_CONSTRAINT = "uk_users_email";
+
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_users_seq")
+  @SequenceGenerator(name = "tb_users_seq", sequenceName = "tb_users_seq", allocationSize = 50)
   private Long id;
 
   @Column(name = "username")
@@ -46,6 +62,7 @@ public class User implements UserDetails {
   private Role role;
 
   @OneToMany(mappedBy = "owner")
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   private List<Project> ownerProjects;
 
   @Override
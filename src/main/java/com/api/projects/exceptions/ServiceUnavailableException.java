@@ -3,11 +3,11 @@ package com.api.projects.exceptions;
 import lombok.Getter;
 
 @Getter
-public class RateLimitExceededException extends RuntimeException {
+public class ServiceUnavailableException extends RuntimeException {
 
   private final long retryAfterSeconds;
 
-  public RateLimitExceededException(String message, long retryAfterSeconds) {
+  public ServiceUnavailableException(String message, long retryAfterSeconds) {
     super(message);
     this.retryAfterSeconds = retryAfterSeconds;
   }
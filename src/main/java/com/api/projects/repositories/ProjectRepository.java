@@ -1,8 +1,16 @@
 package com.api.projects.repositories;
 
 import com.api.projects.entities.Project;
+import java.time.LocalDateTime;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {}
+public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+  @Query("SELECT p.updatedAt FROM Project p WHERE p.id = :id")
+  Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+}
@@ -0,0 +1,33 @@
+package com.api.projects.repositories;
+
+import com.api.projects.entities.RefreshToken;
+import com.api.projects.entities.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+  @Query("SELECT r FROM RefreshToken r JOIN FETCH r.user WHERE r.tokenHash = :tokenHash")
+  Optional<RefreshToken> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+  @Modifying
+  @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.id = :id AND r.revoked = false")
+  int revokeIfActive(@Param("id") Long id);
+
+  @Modifying
+  @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.user = :user AND r.revoked = false")
+  int revokeAllByUser(@Param("user") User user);
+
+  @Modifying
+  @Transactional
+  @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+  int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -3,10 +3,15 @@ package com.api.projects.repositories;
 import com.api.projects.entities.Task;
 import com.api.projects.enums.Priority;
 import com.api.projects.enums.Status;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,9 +23,21 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
           + "(:status IS NULL OR t.status = :status) AND "
           + "(:priority IS NULL OR t.priority = :priority) AND "
           + "(:projectId IS NULL OR t.project.id = :projectId)")
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   Page<Task> findByFilters(
       @Param("status") Status status,
       @Param("priority") Priority priority,
       @Param("projectId") Long projectId,
       Pageable pageable);
+
+  @Query(
+      "SELECT t.updatedAt AS updatedAt, p.updatedAt AS projectUpdatedAt "
+          + "FROM Task t LEFT JOIN t.project p WHERE t.id = :id")
+  Optional<Version> findVersionById(@Param("id") Long id);
+
+  interface Version {
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getProjectUpdatedAt();
+  }
 }
@@ -2,8 +2,10 @@ package com.api.projects.repositories;
 
 import com.api.projects.entities.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +15,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
   boolean existsByUsername(String username);
 
   boolean existsByEmail(String email);
+
+  @Query("SELECT u.username AS username, u.email AS email FROM User u")
+  List<Identifiers> findAllIdentifiers();
+
+  interface Identifiers {
+    String getUsername();
+
+    String getEmail();
+  }
 }
@@ -0,0 +1,30 @@
+package com.api.projects.securities;
+
+import com.api.projects.entities.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.Serializable;
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * Immutable principal built from the token claims, so authenticated requests don't have to load
+ * the {@link User} entity.
+ */
+public record AuthenticatedUser(Long id, String username, Role role)
+    implements Principal, Serializable {
+
+  public static AuthenticatedUser from(User user) {
+    return new AuthenticatedUser(user.getId(), user.getUsername(), user.getRole());
+  }
+
+  public List<GrantedAuthority> authorities() {
+    return List.of(new SimpleGrantedAuthority(role.name()));
+  }
+
+  @Override
+  public String getName() {
+    return username;
+  }
+}
@@ -0,0 +1,120 @@
+package com.api.projects.securities;
+
+import com.api.projects.configs.PasswordHashingProperties;
+import com.api.projects.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Runs password hashing and verification on a fixed pool sized to the CPUs, so a burst of logins or
+ * signups cannot occupy every request thread with BCrypt work. Once the queue is full further calls
+ * fail fast with a {@link ServiceUnavailableException} instead of waiting.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+  private static final String POOL_NAME = "password-hashing";
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final long retryAfterSeconds;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Timer queueWaitTimer;
+  private final Counter rejectedCounter;
+
+  public BoundedPasswordEncoder(
+      PasswordEncoder delegate,
+      PasswordHashingProperties properties,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.retryAfterSeconds = Math.max(1, properties.getRetryAfter().toSeconds());
+    this.executor =
+        new ThreadPoolExecutor(
+            properties.getThreads(),
+            properties.getThreads(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+            new CustomizableThreadFactory(POOL_NAME + "-"),
+            new ThreadPoolExecutor.AbortPolicy());
+
+    this.encodeTimer =
+        Timer.builder("password.hash.duration").tag("operation", "encode").register(meterRegistry);
+    this.matchesTimer =
+        Timer.builder("password.hash.duration").tag("operation", "matches").register(meterRegistry);
+    this.queueWaitTimer = Timer.builder("password.hash.queue.wait").register(meterRegistry);
+    this.rejectedCounter = Counter.builder("password.hash.rejected").register(meterRegistry);
+    new ExecutorServiceMetrics(executor, POOL_NAME, Tags.empty()).bindTo(meterRegistry);
+
+    log.info(
+        "Password hashing bounded to {} threads with a queue of {}",
+        properties.getThreads(),
+        properties.getQueueCapacity());
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return execute(encodeTimer, () -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  private <T> T execute(Timer timer, Supplier<T> operation) {
+    long queuedAt = System.nanoTime();
+    Future<T> result;
+    try {
+      result =
+          executor.submit(
+              () -> {
+                queueWaitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return timer.record(operation);
+              });
+    } catch (RejectedExecutionException ex) {
+      rejectedCounter.increment();
+      log.warn("Password hashing queue is full, rejecting request");
+      throw new ServiceUnavailableException(
+          "The server is busy, please try again later", retryAfterSeconds);
+    }
+
+    try {
+      return result.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      result.cancel(true);
+      throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("Password hashing failed", ex.getCause());
+    }
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+}
@@ -1,28 +1,32 @@
 package com.api.projects.securities;
 
 import com.api.projects.services.TokenService;
+import com.api.projects.services.TokenService.VerifiedToken;
 import com.api.projects.services.UserService;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Optional;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
   private final TokenService tokenService;
   private final UserService userService;
+  private final TokenRevocationList tokenRevocationList;
 
   @Override
   protected void doFilterInternal(
@@ -34,18 +38,33 @@ public class JwtFilter extends OncePerRequestFilter {
     Optional<String> token = extractToken(request);
 
     if (token.isPresent()) {
+      // An invalid or revoked token leaves the request unauthenticated, so secured endpoints
+      // answer 401
+      try {
+        VerifiedToken verified = tokenService.validateToken(token.get());
+        if (!tokenRevocationList.isRevoked(verified.tokenId())) {
+          authenticate(verified);
+        }
+      } catch (JWTVerificationException ex) {
+        log.debug("Rejected bearer token: {}", ex.getMessage());
+      }
+    }
 
-      String subject = tokenService.validateToken(token.get());
-
-      UserDetails userDetails = userService.loadUserByUsername(subject);
+    filterChain.doFilter(request, response);
+  }
 
-      UsernamePasswordAuthenticationToken authentication =
-          new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+  private void authenticate(VerifiedToken verified) {
+    // Tokens issued before the uid/role claims existed still resolve the user from the database
+    AuthenticatedUser principal =
+        verified.principal() != null
+            ? verified.principal()
+            : AuthenticatedUser.from(userService.loadUserByUsername(verified.subject()));
 
-      SecurityContextHolder.getContext().setAuthentication(authentication);
-    }
+    UsernamePasswordAuthenticationToken authentication =
+        new UsernamePasswordAuthenticationToken(principal, null, principal.authorities());
+    authentication.setDetails(verified);
 
-    filterChain.doFilter(request, response);
+    SecurityContextHolder.getContext().setAuthentication(authentication);
   }
 
   private Optional<String> extractToken(HttpServletRequest request) {
@@ -0,0 +1,21 @@
+package com.api.projects.securities;
+
+import com.api.projects.configs.PasswordHashingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Configuration
+@EnableConfigurationProperties(PasswordHashingProperties.class)
+public class PasswordEncoderConfig {
+
+  @Bean
+  public PasswordEncoder passwordEncoder(
+      PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+    return new BoundedPasswordEncoder(
+        new BCryptPasswordEncoder(properties.getStrength()), properties, meterRegistry);
+  }
+}
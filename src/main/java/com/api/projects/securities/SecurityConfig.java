@@ -12,7 +12,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -38,10 +37,22 @@ public class SecurityConfig {
             authorize ->
                 authorize
                     // Public endpoints
-                    .requestMatchers(HttpMethod.POST, "/api/v1/users", "/api/v1/auth/login")
+                    .requestMatchers(
+                        HttpMethod.POST,
+                        "/api/v1/users",
+                        "/api/v1/auth/login",
+                        "/api/v1/auth/refresh")
+                    .permitAll()
+                    .requestMatchers(HttpMethod.GET, "/api/v1/users/availability")
                     .permitAll()
                     .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/webjars/**")
                     .permitAll()
+                    .requestMatchers("/actuator/health/**")
+                    .permitAll()
+
+                    // Operational endpoints
+                    .requestMatchers("/actuator/**")
+                    .hasAuthority("ROLE_ADMIN")
 
                     // ADMIN only operations
                     .requestMatchers(HttpMethod.PUT, "/api/v1/projects/**")
@@ -70,9 +81,4 @@ public class SecurityConfig {
       throws Exception {
     return authConfig.getAuthenticationManager();
   }
-
-  @Bean
-  public BCryptPasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
-  }
 }
@@ -0,0 +1,128 @@
+package com.api.projects.securities;
+
+import com.api.projects.caches.CacheInvalidationBus;
+import com.api.projects.entities.RevokedToken;
+import com.api.projects.repositories.RevokedTokenRepository;
+import com.api.projects.utils.BloomFilter;
+import com.api.projects.utils.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Access token ids revoked before they expire. Lookups go through a Bloom filter first, so tokens
+ * that were never revoked are answered without touching the exact set or the database. The
+ * filter is rebuilt from {@code tb_revoked_tokens} at startup and periodically afterwards, which
+ * also drops expired ids and picks up revocations made by other instances. With the Redis cache
+ * tier enabled, revocations are also published on the {@link CacheInvalidationBus} so other
+ * instances apply them right away; without it, they only see them at their next rebuild.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+  private static final double FALSE_POSITIVE_PROBABILITY = 0.001;
+
+  private final RevokedTokenRepository revokedTokenRepository;
+  private final int expectedRevocations;
+  private final ObjectProvider<CacheInvalidationBus> cacheInvalidationBus;
+
+  private volatile Snapshot snapshot;
+
+  public TokenRevocationList(
+      RevokedTokenRepository revokedTokenRepository,
+      @Value("${spring.security.token.revocation.expected-size:10000}") int expectedRevocations,
+      ObjectProvider<CacheInvalidationBus> cacheInvalidationBus) {
+    this.revokedTokenRepository = revokedTokenRepository;
+    this.expectedRevocations = expectedRevocations;
+    this.cacheInvalidationBus = cacheInvalidationBus;
+    this.snapshot = emptySnapshot();
+  }
+
+  public boolean isRevoked(String tokenId) {
+    if (tokenId == null) {
+      return false;
+    }
+    Snapshot current = snapshot;
+    return current.filter.mightContain(tokenId) && current.revoked.containsKey(tokenId);
+  }
+
+  public void revoke(String tokenId, Instant expiresAt) {
+    revokedTokenRepository.save(
+        RevokedToken.builder()
+            .tokenId(tokenId)
+            .expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+            .build());
+    TransactionUtils.afterCommit(
+        () -> {
+          addRevoked(tokenId, expiresAt);
+          cacheInvalidationBus.ifAvailable(bus -> bus.publishTokenRevocation(tokenId, expiresAt));
+        });
+    log.debug("Revoked access token {}", tokenId);
+  }
+
+  /** Applies a revocation that is already persisted, such as one made by another instance. */
+  public void addRevoked(String tokenId, Instant expiresAt) {
+    snapshot.add(tokenId, expiresAt);
+  }
+
+  @PostConstruct
+  @Scheduled(
+      initialDelayString = "${spring.security.token.revocation.rebuild-interval:PT5M}",
+      fixedDelayString = "${spring.security.token.revocation.rebuild-interval:PT5M}")
+  public void rebuild() {
+    LocalDateTime now = LocalDateTime.now();
+    revokedTokenRepository.deleteExpired(now);
+
+    Snapshot previous = snapshot;
+    Snapshot rebuilt = emptySnapshot();
+    for (RevokedToken token : revokedTokenRepository.findAllByExpiresAtAfter(now)) {
+      rebuilt.add(
+          token.getTokenId(), token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    // Ids revoked locally while rebuilding may be missing from the query, so carry them over
+    // before and again after the swap
+    Instant cutoff = Instant.now();
+    rebuilt.addUnexpired(previous, cutoff);
+    snapshot = rebuilt;
+    rebuilt.addUnexpired(previous, cutoff);
+    log.info("Token revocation list rebuilt with {} revoked tokens", rebuilt.revoked.size());
+  }
+
+  private Snapshot emptySnapshot() {
+    return new Snapshot(BloomFilter.create(expectedRevocations, FALSE_POSITIVE_PROBABILITY));
+  }
+
+  private static final class Snapshot {
+
+    private final BloomFilter filter;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    private Snapshot(BloomFilter filter) {
+      this.filter = filter;
+    }
+
+    private void add(String tokenId, Instant expiresAt) {
+      revoked.put(tokenId, expiresAt);
+      filter.put(tokenId);
+    }
+
+    private void addUnexpired(Snapshot other, Instant cutoff) {
+      other.revoked.forEach(
+          (tokenId, expiresAt) -> {
+            if (expiresAt.isAfter(cutoff) && !revoked.containsKey(tokenId)) {
+              add(tokenId, expiresAt);
+            }
+          });
+    }
+  }
+}
@@ -1,7 +1,11 @@
 package com.api.projects.services;
 
 import com.api.projects.dtos.auth.LoginDTO;
+import com.api.projects.dtos.auth.RefreshTokenDTO;
 import com.api.projects.dtos.auth.TokenDTO;
+import com.api.projects.entities.User;
+import com.api.projects.securities.TokenRevocationList;
+import com.api.projects.services.TokenService.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -12,14 +16,31 @@ import org.springframework.stereotype.Service;
 public class AuthService {
   private final AuthenticationManager authenticationManager;
   private final TokenService tokenService;
+  private final RefreshTokenService refreshTokenService;
+  private final TokenRevocationList tokenRevocationList;
 
   public TokenDTO authenticate(LoginDTO login) {
     var authenticationToken =
         new UsernamePasswordAuthenticationToken(login.getUsername(), login.getPassword());
 
     var authentication = authenticationManager.authenticate(authenticationToken);
-    var token = tokenService.generateToken(authentication.getName());
+    var user = (User) authentication.getPrincipal();
 
-    return new TokenDTO(token);
+    return new TokenDTO(tokenService.generateToken(user), refreshTokenService.issue(user));
+  }
+
+  public TokenDTO refresh(RefreshTokenDTO request) {
+    var rotation = refreshTokenService.rotate(request.getRefreshToken());
+
+    return new TokenDTO(tokenService.generateToken(rotation.user()), rotation.refreshToken());
+  }
+
+  public void logout(VerifiedToken accessToken, String refreshToken) {
+    if (accessToken != null && accessToken.tokenId() != null) {
+      tokenRevocationList.revoke(accessToken.tokenId(), accessToken.expiresAt());
+    }
+    if (refreshToken != null) {
+      refreshTokenService.revoke(refreshToken);
+    }
   }
 }
@@ -1,5 +1,7 @@
 package com.api.projects.services;
 
+import com.api.projects.caches.FilterKeyGenerator;
+import com.api.projects.caches.MissingKeyCache;
 import com.api.projects.dtos.pagination.PageResponseDTO;
 import com.api.projects.dtos.project.ProjectFilterDTO;
 import com.api.projects.dtos.project.ProjectRequestDTO;
@@ -39,6 +41,7 @@ public class ProjectService {
   private final ProjectRepository projectRepository;
   private final UserRepository userRepository;
   private final ProjectMapper projectMapper;
+  private final MissingKeyCache missingKeyCache;
 
   @CacheEvict(value = PROJECTS_CACHE, allEntries = true)
   public ProjectResponseDTO create(ProjectRequestDTO request) {
@@ -54,13 +57,11 @@ public class ProjectService {
     project.setOwner(user);
 
     Project savedProject = projectRepository.save(project);
+    missingKeyCache.clear(PROJECT_CACHE, savedProject.getId());
     return projectMapper.toResponse(savedProject);
   }
 
-  @Cacheable(
-      value = PROJECTS_CACHE,
-      key =
-          "{#request?.page ?: 0, #request?.size ?: 20, #request?.sortBy ?: 'id', #request?.direction ?: 'ASC'}")
+  @Cacheable(value = PROJECTS_CACHE, keyGenerator = FilterKeyGenerator.NAME)
   public PageResponseDTO<ProjectResponseDTO> findByFilter(ProjectFilterDTO request) {
     log.debug("Fetching projects from database with filter: {}", request);
     Pageable pageable =
@@ -75,13 +76,21 @@ public class ProjectService {
     return PageResponseDTO.of(pageResult);
   }
 
-  @Cacheable(value = PROJECT_CACHE, key = "#id")
+  @Cacheable(value = PROJECT_CACHE, key = "#id", sync = true)
   public ProjectResponseDTO findById(Long id) {
     log.debug("Fetching project from database with id: {}", id);
+    if (missingKeyCache.isMissing(PROJECT_CACHE, id)) {
+      throw new NotFoundException(PROJECT_NOT_FOUND_MESSAGE + id);
+    }
+
     return projectRepository
         .findById(id)
         .map(projectMapper::toResponse)
-        .orElseThrow(() -> new NotFoundException(PROJECT_NOT_FOUND_MESSAGE + id));
+        .orElseThrow(
+            () -> {
+              missingKeyCache.markMissing(PROJECT_CACHE, id);
+              return new NotFoundException(PROJECT_NOT_FOUND_MESSAGE + id);
+            });
   }
 
   @Caching(
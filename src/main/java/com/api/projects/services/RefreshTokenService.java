@@ -0,0 +1,105 @@
+package com.api.projects.services;
+
+import com.api.projects.entities.RefreshToken;
+import com.api.projects.entities.User;
+import com.api.projects.repositories.RefreshTokenRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Issues opaque, single-use refresh tokens. Only a SHA-256 hash of each token is stored. Using a
+ * token rotates it, and presenting an already used token revokes every refresh token of its user.
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+  private static final String INVALID_REFRESH_TOKEN_MESSAGE = "Invalid refresh token";
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final Duration timeToLive;
+
+  public RefreshTokenService(
+      RefreshTokenRepository refreshTokenRepository,
+      @Value("${spring.security.token.refresh-token-ttl:P7D}") Duration timeToLive) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.timeToLive = timeToLive;
+  }
+
+  @Transactional
+  public String issue(User user) {
+    byte[] bytes = new byte[32];
+    RANDOM.nextBytes(bytes);
+    String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+    LocalDateTime now = LocalDateTime.now();
+    refreshTokenRepository.save(
+        RefreshToken.builder()
+            .tokenHash(hash(token))
+            .user(user)
+            .createdAt(now)
+            .expiresAt(now.plus(timeToLive))
+            .build());
+    return token;
+  }
+
+  @Transactional(noRollbackFor = BadCredentialsException.class)
+  public Rotation rotate(String token) {
+    RefreshToken refreshToken =
+        refreshTokenRepository
+            .findByTokenHash(hash(token))
+            .filter(candidate -> candidate.getExpiresAt().isAfter(LocalDateTime.now()))
+            .orElseThrow(() -> new BadCredentialsException(INVALID_REFRESH_TOKEN_MESSAGE));
+
+    // The conditional update lets only one of several concurrent rotations of a token win; the
+    // others see no row updated and are handled as reuse
+    User user = refreshToken.getUser();
+    if (refreshToken.isRevoked()
+        || refreshTokenRepository.revokeIfActive(refreshToken.getId()) == 0) {
+      int revoked = refreshTokenRepository.revokeAllByUser(user);
+      log.warn("Refresh token reused for user {}, revoked {} active tokens", user.getId(), revoked);
+      throw new BadCredentialsException(INVALID_REFRESH_TOKEN_MESSAGE);
+    }
+
+    return new Rotation(user, issue(user));
+  }
+
+  @Transactional
+  public void revoke(String token) {
+    refreshTokenRepository
+        .findByTokenHash(hash(token))
+        .ifPresent(refreshToken -> refreshToken.setRevoked(true));
+  }
+
+  @Scheduled(
+      initialDelayString = "${spring.security.token.revocation.rebuild-interval:PT5M}",
+      fixedDelayString = "${spring.security.token.revocation.rebuild-interval:PT5M}")
+  public void purgeExpired() {
+    int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    log.debug("Deleted {} expired refresh tokens", deleted);
+  }
+
+  private static String hash(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 is not available", ex);
+    }
+  }
+
+  public record Rotation(User user, String refreshToken) {}
+}
@@ -1,5 +1,10 @@
 package com.api.projects.services;
 
+import com.api.projects.caches.FilterKeyGenerator;
+import com.api.projects.caches.MissingKeyCache;
+import com.api.projects.caches.TaskCacheWriter;
+import com.api.projects.caches.TaskDimensions;
+import com.api.projects.caches.TaskListCacheInvalidator;
 import com.api.projects.dtos.pagination.PageResponseDTO;
 import com.api.projects.dtos.task.TaskFilterDTO;
 import com.api.projects.dtos.task.TaskPriorityUpdateDTO;
@@ -16,12 +21,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.api.projects.utils.TransactionUtils.afterCommit;
 
 @Slf4j
 @Service
@@ -36,10 +43,12 @@ public class TaskService {
   private final TaskRepository taskRepository;
   private final ProjectRepository projectRepository;
   private final TaskMapper taskMapper;
+  private final TaskListCacheInvalidator taskListCacheInvalidator;
+  private final TaskCacheWriter taskCacheWriter;
+  private final MissingKeyCache missingKeyCache;
 
-  @CacheEvict(value = TASKS_CACHE, allEntries = true)
   public TaskResponseDTO create(TaskRequestDTO request) {
-    log.info("Creating new task and evicting tasks cache");
+    log.info("Creating new task and evicting matching tasks pages");
     Project project =
         projectRepository
             .findById(request.getProjectId())
@@ -50,22 +59,29 @@ public class TaskService {
     task.setProject(project);
 
     Task savedTask = taskRepository.save(task);
+    missingKeyCache.clear(TASK_CACHE, savedTask.getId());
+    taskListCacheInvalidator.evict(null, TaskDimensions.of(savedTask));
     return taskMapper.toResponse(savedTask);
   }
 
-  @Cacheable(value = TASK_CACHE, key = "#id")
+  @Cacheable(value = TASK_CACHE, key = "#id", sync = true)
   public TaskResponseDTO findById(Long id) {
     log.info("Fetching task by id {} from database or cache", id);
+    if (missingKeyCache.isMissing(TASK_CACHE, id)) {
+      throw new NotFoundException(TASK_NOT_FOUND_MESSAGE + id);
+    }
+
     return taskRepository
         .findById(id)
         .map(taskMapper::toResponse)
-        .orElseThrow(() -> new NotFoundException(TASK_NOT_FOUND_MESSAGE + id));
+        .orElseThrow(
+            () -> {
+              missingKeyCache.markMissing(TASK_CACHE, id);
+              return new NotFoundException(TASK_NOT_FOUND_MESSAGE + id);
+            });
   }
 
-  @Cacheable(
-      value = TASKS_CACHE,
-      key =
-          "T(java.util.Objects).hash(#filter.page, #filter.size, #filter.sortBy, #filter.direction, #filter.status, #filter.priority, #filter.projectId)")
+  @Cacheable(value = TASKS_CACHE, keyGenerator = FilterKeyGenerator.NAME)
   public PageResponseDTO<TaskResponseDTO> findByFilter(TaskFilterDTO filter) {
     log.info("Fetching tasks from database with filter: {}", filter);
     Pageable pageable =
@@ -83,11 +99,7 @@ public class TaskService {
     return PageResponseDTO.of(pageResult);
   }
 
-  @Caching(
-      evict = {
-        @CacheEvict(value = TASK_CACHE, key = "#id"),
-        @CacheEvict(value = TASKS_CACHE, allEntries = true)
-      })
+  @Transactional
   public void updateStatus(Long id, TaskStatusUpdateDTO request) {
     log.info("Updating status of task with id: {}", id);
     Task existingTask =
@@ -95,15 +107,18 @@ public class TaskService {
             .findById(id)
             .orElseThrow(() -> new NotFoundException(TASK_NOT_FOUND_MESSAGE + id));
 
+    TaskDimensions before = TaskDimensions.of(existingTask);
     existingTask.setStatus(request.getStatus());
     taskRepository.save(existingTask);
+
+    afterCommit(
+        () -> {
+          taskCacheWriter.writeThrough(existingTask);
+          taskListCacheInvalidator.evict(before, TaskDimensions.of(existingTask));
+        });
   }
 
-  @Caching(
-      evict = {
-        @CacheEvict(value = TASK_CACHE, key = "#id"),
-        @CacheEvict(value = TASKS_CACHE, allEntries = true)
-      })
+  @Transactional
   public void updatePriority(Long id, TaskPriorityUpdateDTO request) {
     log.info("Updating priority of task with id: {}", id);
     Task existingTask =
@@ -111,20 +126,26 @@ public class TaskService {
             .findById(id)
             .orElseThrow(() -> new NotFoundException(TASK_NOT_FOUND_MESSAGE + id));
 
+    TaskDimensions before = TaskDimensions.of(existingTask);
     existingTask.setPriority(request.getPriority());
     taskRepository.save(existingTask);
+
+    afterCommit(
+        () -> {
+          taskCacheWriter.writeThrough(existingTask);
+          taskListCacheInvalidator.evict(before, TaskDimensions.of(existingTask));
+        });
   }
 
-  @Caching(
-      evict = {
-        @CacheEvict(value = TASK_CACHE, key = "#id"),
-        @CacheEvict(value = TASKS_CACHE, allEntries = true)
-      })
+  @CacheEvict(value = TASK_CACHE, key = "#id")
   public void delete(Long id) {
     log.info("Deleting task with id: {}", id);
-    if (!taskRepository.existsById(id)) {
-      throw new NotFoundException(TASK_NOT_FOUND_MESSAGE + id);
-    }
-    taskRepository.deleteById(id);
+    Task existingTask =
+        taskRepository
+            .findById(id)
+            .orElseThrow(() -> new NotFoundException(TASK_NOT_FOUND_MESSAGE + id));
+
+    taskRepository.delete(existingTask);
+    taskListCacheInvalidator.evict(TaskDimensions.of(existingTask), null);
   }
 }
@@ -1,30 +1,150 @@
 package com.api.projects.services;
 
+import com.api.projects.caches.CacheStatsCounter;
+import com.api.projects.entities.User;
+import com.api.projects.securities.AuthenticatedUser;
+import com.api.projects.securities.Role;
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.UUID;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 public class TokenService {
 
+  private static final String USER_ID_CLAIM = "uid";
+  private static final String ROLE_CLAIM = "role";
+  private static final String CACHE_NAME = "verified-tokens";
+
   private final Algorithm algorithm;
+  private final Duration timeToLive;
+  private final JWTVerifier verifier;
+  private final Cache<TokenDigest, VerifiedToken> verifiedTokens;
 
-  public TokenService(@Value("${spring.security.token.secret}") String secret) {
+  public TokenService(
+      @Value("${spring.security.token.secret}") String secret,
+      @Value("${spring.security.token.access-token-ttl:PT15M}") Duration timeToLive,
+      @Value("${spring.security.token.cache-size:10000}") long cacheSize,
+      MeterRegistry meterRegistry) {
     this.algorithm = Algorithm.HMAC256(secret);
+    this.timeToLive = timeToLive;
+    this.verifier = JWT.require(algorithm).build();
+
+    // A cache size of 0 turns the cache off, so every validation checks the signature
+    if (cacheSize > 0) {
+      CacheStatsCounter statsCounter = new CacheStatsCounter(meterRegistry, CACHE_NAME);
+      this.verifiedTokens =
+          Caffeine.newBuilder()
+              .maximumSize(cacheSize)
+              .expireAfter(Expiry.creating(this::timeToExpiry))
+              .recordStats(() -> statsCounter)
+              .build();
+      statsCounter.registerSizeMetric(verifiedTokens);
+    } else {
+      this.verifiedTokens = null;
+    }
   }
 
-  public String generateToken(String username) {
-    return JWT.create().withSubject(username).withExpiresAt(generateExpiration()).sign(algorithm);
+  public String generateToken(User user) {
+    return JWT.create()
+        .withJWTId(UUID.randomUUID().toString())
+        .withSubject(user.getUsername())
+        .withClaim(USER_ID_CLAIM, user.getId())
+        .withClaim(ROLE_CLAIM, user.getRole().name())
+        .withExpiresAt(generateExpiration())
+        .sign(algorithm);
   }
 
   private Instant generateExpiration() {
-    return Instant.now().plus(2, ChronoUnit.HOURS);
+    return Instant.now().plus(timeToLive);
+  }
+
+  public VerifiedToken validateToken(String token) {
+    return verifiedTokens != null
+        ? verifiedTokens.get(TokenDigest.of(token), digest -> verify(token))
+        : verify(token);
+  }
+
+  /**
+   * Returns the result of an earlier successful {@link #validateToken} call for this token, or
+   * {@code null} if it has not been verified yet. Only checks the signature itself when the cache
+   * is disabled, returning {@code null} for a token that does not verify, so callers see verified
+   * tokens either way.
+   */
+  public VerifiedToken findVerified(String token) {
+    if (verifiedTokens != null) {
+      return verifiedTokens.getIfPresent(TokenDigest.of(token));
+    }
+    try {
+      return verify(token);
+    } catch (JWTVerificationException ex) {
+      return null;
+    }
+  }
+
+  private VerifiedToken verify(String token) {
+    DecodedJWT jwt = verifier.verify(token);
+    return new VerifiedToken(
+        jwt.getId(), jwt.getSubject(), jwt.getExpiresAtAsInstant(), principalOf(jwt));
+  }
+
+  private static AuthenticatedUser principalOf(DecodedJWT jwt) {
+    Claim id = jwt.getClaim(USER_ID_CLAIM);
+    Claim role = jwt.getClaim(ROLE_CLAIM);
+    if (id.isMissing() || role.isMissing()) {
+      return null;
+    }
+    return new AuthenticatedUser(id.asLong(), jwt.getSubject(), Role.valueOf(role.asString()));
   }
 
-  public String validateToken(String token) {
-    return JWT.require(algorithm).build().verify(token).getSubject();
+  private Duration timeToExpiry(TokenDigest digest, VerifiedToken verified) {
+    if (verified.expiresAt() == null) {
+      return timeToLive;
+    }
+    Duration remaining = Duration.between(Instant.now(), verified.expiresAt());
+    return remaining.isNegative() ? Duration.ZERO : remaining;
   }
+
+  /**
+   * SHA-256 of a bearer token, used as the cache key so entries do not hold the credential itself
+   * and take the same space whatever the token's length. A collision-resistant hash is required:
+   * a forged token whose key collided with a verified one would be accepted as that token.
+   */
+  private record TokenDigest(long first, long second, long third, long fourth) {
+
+    private static TokenDigest of(String token) {
+      try {
+        ByteBuffer digest =
+            ByteBuffer.wrap(
+                MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8)));
+        return new TokenDigest(
+            digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+      } catch (NoSuchAlgorithmException ex) {
+        throw new IllegalStateException("SHA-256 is not available", ex);
+      }
+    }
+  }
+
+  /**
+   * Outcome of a successful signature and expiry check. The token id and principal are {@code
+   * null} for tokens issued without the jti, user id and role claims.
+   */
+  public record VerifiedToken(
+      String tokenId, String subject, Instant expiresAt, AuthenticatedUser principal) {}
 }
@@ -1,17 +1,21 @@
 package com.api.projects.services;
 
+import com.api.projects.caches.UserIdentifierFilter;
+import com.api.projects.dtos.user.UserAvailabilityDTO;
 import com.api.projects.dtos.user.UserRequestDTO;
 import com.api.projects.dtos.user.UserResponseDTO;
 import com.api.projects.entities.User;
+import com.api.projects.exceptions.BusinessException;
 import com.api.projects.exceptions.ConflictException;
 import com.api.projects.mappers.UserMapper;
 import com.api.projects.repositories.UserRepository;
 import com.api.projects.securities.Role;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -21,39 +25,93 @@ public class UserService implements UserDetailsService {
       "Email already exists, please, try other email address";
   private static final String USERNAME_ALREADY_EXISTS_MESSAGE =
       "Username already exists, please, try other username";
+  private static final String AVAILABILITY_PARAMETERS_MESSAGE =
+      "Provide a username, an email or both to check availability";
 
   private final UserRepository userRepository;
   private final UserMapper userMapper;
+  private final PasswordEncoder passwordEncoder;
+  private final UserIdentifierFilter userIdentifierFilter;
 
   public UserResponseDTO create(UserRequestDTO request) {
-    validateUserRules(request);
+    String username = normalizeUsername(request.getUsername());
+
+    // Turn duplicates away before spending a hash; the unique constraints still catch races
+    UserAvailabilityDTO availability = checkAvailability(username, request.getEmail());
+    if (!availability.usernameAvailable()) {
+      throw new ConflictException(USERNAME_ALREADY_EXISTS_MESSAGE);
+    }
+    if (!availability.emailAvailable()) {
+      throw new ConflictException(EMAIL_ALREADY_EXISTS_MESSAGE);
+    }
 
     var user =
         User.builder()
-            .username(request.getUsername().trim().replaceAll("\\s+", " "))
+            .username(username)
             .email(request.getEmail())
-            .password(new BCryptPasswordEncoder().encode(request.getPassword()))
+            .password(passwordEncoder.encode(request.getPassword()))
             .role(Role.ROLE_USER)
             .build();
 
-    var savedUser = userRepository.save(user);
+    User savedUser;
+    try {
+      savedUser = userRepository.saveAndFlush(user);
+    } catch (DataIntegrityViolationException ex) {
+      throw toConflict(ex);
+    }
+
+    userIdentifierFilter.add(savedUser.getUsername(), savedUser.getEmail());
     return userMapper.toResponse(savedUser);
   }
 
-  private void validateUserRules(UserRequestDTO request) {
-    if (userRepository.existsByUsername(request.getUsername())) {
-      throw new ConflictException(USERNAME_ALREADY_EXISTS_MESSAGE);
+  public UserAvailabilityDTO checkAvailability(String username, String email) {
+    if (username == null && email == null) {
+      throw new BusinessException(AVAILABILITY_PARAMETERS_MESSAGE);
     }
 
-    if (userRepository.existsByEmail(request.getEmail())) {
-      throw new ConflictException(EMAIL_ALREADY_EXISTS_MESSAGE);
+    Boolean usernameAvailable = null;
+    if (username != null) {
+      String normalized = normalizeUsername(username);
+      usernameAvailable =
+          !userIdentifierFilter.mightHaveUsername(normalized)
+              || !userRepository.existsByUsername(normalized);
     }
+
+    Boolean emailAvailable = null;
+    if (email != null) {
+      emailAvailable =
+          !userIdentifierFilter.mightHaveEmail(email) || !userRepository.existsByEmail(email);
+    }
+
+    return new UserAvailabilityDTO(usernameAvailable, emailAvailable);
+  }
+
+  private RuntimeException toConflict(DataIntegrityViolationException ex) {
+    String constraint =
+        ex.getCause() instanceof ConstraintViolationException violation
+            ? violation.getConstraintName()
+            : null;
+    if (constraint != null && constraint.contains(User.USERNAME_CONSTRAINT)) {
+      return new ConflictException(USERNAME_ALREADY_EXISTS_MESSAGE);
+    }
+    if (constraint != null && constraint.contains(User.EMAIL_CONSTRAINT)) {
+      return new ConflictException(EMAIL_ALREADY_EXISTS_MESSAGE);
+    }
+    return ex;
+  }
+
+  /**
+   * Usernames are stored trimmed with inner whitespace collapsed, so every lookup by username has to
+   * normalize its input the same way.
+   */
+  private static String normalizeUsername(String username) {
+    return username.trim().replaceAll("\\s+", " ");
   }
 
   @Override
-  public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+  public User loadUserByUsername(String username) throws UsernameNotFoundException {
     return userRepository
-        .findByUsername(username)
+        .findByUsername(normalizeUsername(username))
         .orElseThrow(() -> new UsernameNotFoundException(username));
   }
 }
@@ -0,0 +1,104 @@
+package com.api.projects.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrency limit that adapts to observed latency, after TCP Vegas. The lowest latency seen is
+ * taken as the no-load round trip time, and the gap between it and each new sample estimates how
+ * many requests are queued inside the service. The limit grows while that queue stays short,
+ * shrinks once it builds up or requests fail, and is left alone while the service is not using
+ * half of it. The no-load estimate is reset periodically so it can follow a lasting change in
+ * latency. Samples update the state with atomics, so concurrent completions never wait on each
+ * other; when two adjust the limit from the same starting value, only the first one applies.
+ */
+public final class AdaptiveConcurrencyLimit {
+
+  private static final int PROBE_MULTIPLIER = 30;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  private final AtomicInteger limit;
+  private final AtomicLong noLoadRttNanos = new AtomicLong(Long.MAX_VALUE);
+  private final AtomicLong samplesSinceProbe = new AtomicLong();
+  private volatile int estimatedQueue;
+
+  public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.limit = new AtomicInteger(Math.max(minLimit, Math.min(maxLimit, initialLimit)));
+  }
+
+  /**
+   * Takes a slot if fewer than {@code share} of the current limit are in use. Every successful
+   * call must be paired with {@link #release(long, boolean)} or {@link #release()}.
+   */
+  public boolean tryAcquire(double share) {
+    int allowed = Math.max(1, (int) (limit.get() * share));
+    int current;
+    do {
+      current = inFlight.get();
+      if (current >= allowed) {
+        return false;
+      }
+    } while (!inFlight.compareAndSet(current, current + 1));
+    return true;
+  }
+
+  public void release(long rttNanos, boolean dropped) {
+    int inFlightAtCompletion = inFlight.getAndDecrement();
+    onSample(Math.max(1, rttNanos), inFlightAtCompletion, dropped);
+  }
+
+  /**
+   * Frees a slot without feeding the request's latency to the estimator, for requests whose
+   * latency says nothing about queuing in the service.
+   */
+  public void release() {
+    inFlight.decrementAndGet();
+  }
+
+  public int getLimit() {
+    return limit.get();
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  public int getEstimatedQueue() {
+    return estimatedQueue;
+  }
+
+  private void onSample(long rttNanos, int inFlightAtCompletion, boolean dropped) {
+    int current = limit.get();
+    if (samplesSinceProbe.incrementAndGet() >= (long) PROBE_MULTIPLIER * current) {
+      samplesSinceProbe.set(0);
+      noLoadRttNanos.set(rttNanos);
+      return;
+    }
+    long noLoad = noLoadRttNanos.accumulateAndGet(rttNanos, Math::min);
+
+    int queue = (int) Math.ceil(current * (1 - (double) noLoad / rttNanos));
+    estimatedQueue = queue;
+
+    double step = Math.max(1, Math.log10(current));
+    double next;
+    if (dropped) {
+      next = current - step;
+    } else if (inFlightAtCompletion * 2 < current) {
+      return;
+    } else if (queue <= step) {
+      next = current + 6 * step;
+    } else if (queue < 3 * step) {
+      next = current + step;
+    } else if (queue > 6 * step) {
+      next = current - step;
+    } else {
+      return;
+    }
+    limit.compareAndSet(current, (int) Math.max(minLimit, Math.min(maxLimit, Math.round(next))));
+  }
+}
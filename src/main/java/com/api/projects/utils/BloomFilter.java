@@ -0,0 +1,78 @@
+package com.api.projects.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings. {@link #mightContain} never returns {@code false} for a
+ * value that was added, and returns {@code true} for an absent value with roughly the configured
+ * probability. Safe for concurrent use; entries cannot be removed, so callers rebuild it instead.
+ */
+public final class BloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitCount;
+  private final int hashFunctions;
+
+  private BloomFilter(long bitCount, int hashFunctions) {
+    this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+    this.bitCount = bitCount;
+    this.hashFunctions = hashFunctions;
+  }
+
+  public static BloomFilter create(long expectedInsertions, double falsePositiveProbability) {
+    long n = Math.max(1, expectedInsertions);
+    long bitCount =
+        Math.max(
+            64,
+            (long) (-n * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2))));
+    int hashFunctions = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    return new BloomFilter(bitCount, hashFunctions);
+  }
+
+  public void put(CharSequence value) {
+    long hash = hash(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashFunctions; i++) {
+      long bit = index(h1 + i * h2);
+      int word = (int) (bit >>> 6);
+      long mask = 1L << bit;
+      long current;
+      do {
+        current = bits.get(word);
+      } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+    }
+  }
+
+  public boolean mightContain(CharSequence value) {
+    long hash = hash(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashFunctions; i++) {
+      long bit = index(h1 + i * h2);
+      if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private long index(int combinedHash) {
+    return (combinedHash & Integer.MAX_VALUE) % bitCount;
+  }
+
+  private static long hash(CharSequence value) {
+    // FNV-1a over the UTF-16 code units, finished with the MurmurHash3 64-bit mix
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < value.length(); i++) {
+      hash ^= value.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
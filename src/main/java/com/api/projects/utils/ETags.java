@@ -0,0 +1,47 @@
+package com.api.projects.utils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+public final class ETags {
+
+  private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+  private ETags() {}
+
+  public static String of(Long id, LocalDateTime... versions) {
+    StringBuilder etag = new StringBuilder("\"").append(id);
+    for (LocalDateTime version : versions) {
+      etag.append('-').append(toMillis(version));
+    }
+    return etag.append('"').toString();
+  }
+
+  public static String weak(String epoch, long version, int discriminator) {
+    return "W/\"" + epoch + '-' + version + '-' + Integer.toHexString(discriminator) + '"';
+  }
+
+  public static boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null || etag == null) {
+      return false;
+    }
+    ETag current = ETag.create(etag);
+    return ETag.parse(ifNoneMatch).stream()
+        .anyMatch(candidate -> candidate.isWildcard() || candidate.compare(current, false));
+  }
+
+  public static <B extends ResponseEntity.HeadersBuilder<B>> B revalidate(B builder, String etag) {
+    return builder.eTag(etag).cacheControl(REVALIDATE).varyBy(HttpHeaders.AUTHORIZATION);
+  }
+
+  private static long toMillis(LocalDateTime version) {
+    return version == null
+        ? 0
+        : version.truncatedTo(ChronoUnit.MILLIS).toInstant(ZoneOffset.UTC).toEpochMilli();
+  }
+}
@@ -0,0 +1,23 @@
+package com.api.projects.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates request ids in the UUID version 7 layout: a millisecond timestamp followed by random
+ * bits, so ids sort by creation time. The random bits come from {@link ThreadLocalRandom}, which
+ * does not block or contend like {@code UUID.randomUUID()}; the ids are unique enough for
+ * correlating logs but are not suitable as secrets.
+ */
+public final class RequestIdGenerator {
+
+  private RequestIdGenerator() {}
+
+  public static String generate() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long mostSigBits =
+        (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+    long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(mostSigBits, leastSigBits).toString();
+  }
+}
@@ -0,0 +1,26 @@
+-- Moves tb_users, tb_projects, tb_tasks and tb_refresh_tokens from identity columns to the
+-- pooled sequences the entities now use, keeping existing rows. Needed only for databases created
+-- before the change and not rebuilt by ddl-auto; run once, before starting the new version.
+--
+-- Hibernate's pooled optimizer hands out the 50 ids ending at each value it reads from a sequence,
+-- so every sequence starts 50 past the current maximum id.
+
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS tb_users_seq START WITH 1 INCREMENT BY 50;
+ALTER TABLE tb_users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+SELECT setval('tb_users_seq', COALESCE(MAX(id), 0) + 50, false) FROM tb_users;
+
+CREATE SEQUENCE IF NOT EXISTS tb_projects_seq START WITH 1 INCREMENT BY 50;
+ALTER TABLE tb_projects ALTER COLUMN id DROP IDENTITY IF EXISTS;
+SELECT setval('tb_projects_seq', COALESCE(MAX(id), 0) + 50, false) FROM tb_projects;
+
+CREATE SEQUENCE IF NOT EXISTS tb_tasks_seq START WITH 1 INCREMENT BY 50;
+ALTER TABLE tb_tasks ALTER COLUMN id DROP IDENTITY IF EXISTS;
+SELECT setval('tb_tasks_seq', COALESCE(MAX(id), 0) + 50, false) FROM tb_tasks;
+
+CREATE SEQUENCE IF NOT EXISTS tb_refresh_tokens_seq START WITH 1 INCREMENT BY 50;
+ALTER TABLE tb_refresh_tokens ALTER COLUMN id DROP IDENTITY IF EXISTS;
+SELECT setval('tb_refresh_tokens_seq', COALESCE(MAX(id), 0) + 50, false) FROM tb_refresh_tokens;
+
+COMMIT;
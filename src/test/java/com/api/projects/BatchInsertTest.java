@@ -0,0 +1,55 @@
+package com.api.projects;
+
+import com.api.projects.entities.Task;
+import com.api.projects.repositories.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BatchInsertTest {
+
+  @Autowired private TaskRepository taskRepository;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private List<Task> tasks = List.of();
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    taskRepository.deleteAllInBatch(tasks);
+  }
+
+  @Test
+  void shouldBatchInsertsAndPoolSequenceValues() {
+    tasks =
+        taskRepository.saveAll(
+            IntStream.range(0, 200)
+                .mapToObj(i -> Task.builder().title("Batched " + i).build())
+                .toList());
+
+    assertEquals(200, statistics.getEntityInsertCount());
+    assertEquals(200, tasks.stream().map(Task::getId).distinct().count());
+    // 200 rows cost a handful of sequence calls and four batches, not a statement per row
+    assertTrue(
+        statistics.getPrepareStatementCount() <= 10,
+        "Prepared statements: " + statistics.getPrepareStatementCount());
+  }
+}
@@ -1,17 +1,26 @@
 package com.api.projects;
 
+import com.api.projects.entities.User;
+import com.api.projects.securities.Role;
+import com.api.projects.services.TokenService;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import java.time.Instant;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
@@ -25,8 +34,10 @@ class RateLimitTest {
 
   @Autowired private MockMvc mockMvc;
 
+  @Autowired private TokenService tokenService;
+
   @Test
-  @WithMockUser(username = "testuser", roles = "USER")
+  @WithMockUser(username = "ratelimit-within", roles = "USER")
   void shouldAllowRequestsWithinLimit() throws Exception {
     log.info("Testing rate limit within limit");
 
@@ -42,7 +53,7 @@ class RateLimitTest {
   }
 
   @Test
-  @WithMockUser(username = "testuser", roles = "USER")
+  @WithMockUser(username = "ratelimit-blocked", roles = "USER")
   void shouldBlockRequestsAfterLimit() throws Exception {
     log.info("Testing rate limit blocking after limit");
 
@@ -64,9 +75,116 @@ class RateLimitTest {
             .perform(get(PROJECT_PATH).header("X-Forwarded-For", "192.168.1.200"))
             .andExpect(status().isTooManyRequests())
             .andExpect(header().exists("X-Rate-Limit-Retry-After-Seconds"))
+            .andExpect(header().exists("X-Request-Id"))
             .andReturn();
 
     String retryAfter = blockedResult.getResponse().getHeader("X-Rate-Limit-Retry-After-Seconds");
     log.warn("Request blocked! Retry after: {}s", retryAfter);
   }
+
+  @Test
+  void shouldLimitUsersBehindSameAddressIndependently() throws Exception {
+    String first = bearer(101L, "ratelimit-nat-first");
+    String second = bearer(102L, "ratelimit-nat-second");
+
+    // A token is limited by address until the JWT filter has verified it once
+    mockMvc
+        .perform(
+            get(PROJECT_PATH)
+                .header("Authorization", first)
+                .header("X-Forwarded-For", "192.168.1.250"))
+        .andExpect(status().isOk());
+    for (int i = 0; i < 40; i++) {
+      mockMvc
+          .perform(
+              get(PROJECT_PATH)
+                  .header("Authorization", first)
+                  .header("X-Forwarded-For", "192.168.1.250"))
+          .andExpect(status().isOk());
+    }
+
+    mockMvc
+        .perform(
+            get(PROJECT_PATH)
+                .header("Authorization", first)
+                .header("X-Forwarded-For", "192.168.1.250"))
+        .andExpect(status().isTooManyRequests())
+        .andExpect(header().exists("Retry-After"))
+        .andExpect(jsonPath("$.status").value(429));
+    mockMvc
+        .perform(
+            get(PROJECT_PATH)
+                .header("Authorization", second)
+                .header("X-Forwarded-For", "192.168.1.250"))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void shouldRejectBeforeAuthentication() throws Exception {
+    for (int i = 0; i < 40; i++) {
+      mockMvc
+          .perform(get(PROJECT_PATH).header("X-Forwarded-For", "192.168.1.253"))
+          .andExpect(status().isUnauthorized());
+    }
+
+    mockMvc
+        .perform(get(PROJECT_PATH).header("X-Forwarded-For", "192.168.1.253"))
+        .andExpect(status().isTooManyRequests());
+  }
+
+  @Test
+  void shouldLimitUnverifiedTokensByAddress() throws Exception {
+    for (int i = 0; i < 40; i++) {
+      mockMvc
+          .perform(
+              get(PROJECT_PATH)
+                  .header("Authorization", forgedBearer(i))
+                  .header("X-Forwarded-For", "192.168.1.254"))
+          .andExpect(status().isUnauthorized());
+    }
+
+    mockMvc
+        .perform(
+            get(PROJECT_PATH)
+                .header("Authorization", forgedBearer(40))
+                .header("X-Forwarded-For", "192.168.1.254"))
+        .andExpect(status().isTooManyRequests());
+  }
+
+  @Test
+  void shouldApplyLoginPolicyToAnonymousClientsByAddress() throws Exception {
+    for (int i = 0; i < 5; i++) {
+      mockMvc
+          .perform(login().header("X-Forwarded-For", "192.168.1.251"))
+          .andExpect(status().is4xxClientError())
+          .andExpect(header().exists("X-Rate-Limit-Remaining"));
+    }
+
+    mockMvc
+        .perform(login().header("X-Forwarded-For", "192.168.1.251"))
+        .andExpect(status().isTooManyRequests());
+    mockMvc
+        .perform(login().header("X-Forwarded-For", "192.168.1.252"))
+        .andExpect(header().exists("X-Rate-Limit-Remaining"));
+  }
+
+  private String bearer(Long id, String username) {
+    return "Bearer "
+        + tokenService.generateToken(
+            User.builder().id(id).username(username).role(Role.ROLE_USER).build());
+  }
+
+  private String forgedBearer(int id) {
+    return "Bearer "
+        + JWT.create()
+            .withSubject("ratelimit-forged-" + id)
+            .withExpiresAt(Instant.now().plusSeconds(60))
+            .sign(Algorithm.HMAC256("forged-secret"));
+  }
+
+  private MockHttpServletRequestBuilder login() {
+    return post("/api/v1/auth/login")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"username\": \"nobody\", \"password\": \"@Password123\"}");
+  }
 }
@@ -0,0 +1,73 @@
+package com.api.projects;
+
+import com.api.projects.entities.Project;
+import com.api.projects.repositories.ProjectRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+  @Autowired private ProjectRepository projectRepository;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @Autowired private MeterRegistry meterRegistry;
+
+  private Statistics statistics;
+  private Project project;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    project = projectRepository.save(Project.builder().name("Cached").build());
+    projectRepository.findById(project.getId());
+    statistics.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    projectRepository.deleteById(project.getId());
+  }
+
+  @Test
+  void shouldServeEntityFromSecondLevelCacheAcrossSessions() {
+    projectRepository.findById(project.getId());
+    projectRepository.findById(project.getId());
+
+    assertEquals(0, statistics.getEntityLoadCount());
+    assertEquals(2, statistics.getSecondLevelCacheHitCount());
+  }
+
+  @Test
+  void shouldReloadEntityAfterUpdate() {
+    project.setName("Renamed");
+    projectRepository.save(project);
+
+    Project reloaded = projectRepository.findById(project.getId()).orElseThrow();
+
+    assertEquals("Renamed", reloaded.getName());
+    assertEquals(0, statistics.getSecondLevelCacheMissCount());
+  }
+
+  @Test
+  void shouldExposeSecondLevelCacheMetrics() {
+    projectRepository.findById(project.getId());
+
+    assertNotNull(
+        meterRegistry
+            .find("hibernate.second.level.cache.requests")
+            .tag("region", Project.class.getName())
+            .tag("result", "hit")
+            .functionCounter());
+  }
+}
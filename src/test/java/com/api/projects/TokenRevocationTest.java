@@ -0,0 +1,162 @@
+package com.api.projects;
+
+import com.api.projects.dtos.auth.TokenDTO;
+import com.api.projects.services.RefreshTokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class TokenRevocationTest {
+
+  private static final String PASSWORD = "@Password123";
+
+  @Autowired private MockMvc mockMvc;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private RefreshTokenService refreshTokenService;
+
+  private String username;
+
+  @BeforeEach
+  void createUser() throws Exception {
+    username = "user-" + UUID.randomUUID().toString().substring(0, 8);
+    mockMvc
+        .perform(
+            json(post("/api/v1/users"))
+                .content(
+                    """
+                    {"username": "%s", "email": "%s@example.com", "password": "%s"}
+                    """
+                        .formatted(username, username, PASSWORD)))
+        .andExpect(status().isCreated());
+  }
+
+  @Test
+  void shouldRejectAccessTokenAfterLogout() throws Exception {
+    TokenDTO tokens = login();
+    mockMvc.perform(authorized(get("/api/v1/projects"), tokens)).andExpect(status().isOk());
+
+    mockMvc
+        .perform(authorized(post("/api/v1/auth/logout"), tokens))
+        .andExpect(status().isNoContent());
+
+    mockMvc
+        .perform(authorized(get("/api/v1/projects"), tokens))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void shouldRotateRefreshTokenAndRejectReuse() throws Exception {
+    TokenDTO tokens = login();
+
+    TokenDTO refreshed = refresh(tokens.refreshToken());
+    assertNotEquals(tokens.refreshToken(), refreshed.refreshToken());
+    mockMvc.perform(authorized(get("/api/v1/projects"), refreshed)).andExpect(status().isOk());
+
+    mockMvc
+        .perform(refreshRequest(tokens.refreshToken()))
+        .andExpect(status().isUnauthorized());
+    mockMvc
+        .perform(refreshRequest(refreshed.refreshToken()))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void shouldRotateRefreshTokenOnlyOnceWhenUsedConcurrently() throws Exception {
+    String refreshToken = login().refreshToken();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      List<Future<Boolean>> attempts = new ArrayList<>();
+      for (int i = 0; i < 2; i++) {
+        attempts.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  try {
+                    refreshTokenService.rotate(refreshToken);
+                    return true;
+                  } catch (BadCredentialsException ex) {
+                    return false;
+                  }
+                }));
+      }
+      start.countDown();
+
+      int rotations = 0;
+      for (Future<Boolean> attempt : attempts) {
+        rotations += attempt.get(10, TimeUnit.SECONDS) ? 1 : 0;
+      }
+      assertEquals(1, rotations);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private TokenDTO login() throws Exception {
+    String body =
+        mockMvc
+            .perform(
+                json(post("/api/v1/auth/login"))
+                    .content(
+                        """
+                        {"username": "%s", "password": "%s"}
+                        """
+                            .formatted(username, PASSWORD)))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    return objectMapper.readValue(body, TokenDTO.class);
+  }
+
+  private TokenDTO refresh(String refreshToken) throws Exception {
+    String body =
+        mockMvc
+            .perform(refreshRequest(refreshToken))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    return objectMapper.readValue(body, TokenDTO.class);
+  }
+
+  private MockHttpServletRequestBuilder refreshRequest(String refreshToken) {
+    return json(post("/api/v1/auth/refresh"))
+        .content("{\"refreshToken\": \"" + refreshToken + "\"}");
+  }
+
+  private MockHttpServletRequestBuilder authorized(
+      MockHttpServletRequestBuilder request, TokenDTO tokens) {
+    return request
+        .header("Authorization", "Bearer " + tokens.token())
+        .header("X-Forwarded-For", "10.0.0.17");
+  }
+
+  private MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request) {
+    return request.contentType(MediaType.APPLICATION_JSON).header("X-Forwarded-For", "10.0.0.17");
+  }
+}
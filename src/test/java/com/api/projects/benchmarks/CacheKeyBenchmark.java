@@ -0,0 +1,103 @@
+package com.api.projects.benchmarks;
+
+import com.api.projects.caches.FilterKeyGenerator;
+import com.api.projects.dtos.project.ProjectFilterDTO;
+import com.api.projects.dtos.task.TaskFilterDTO;
+import com.api.projects.enums.Priority;
+import com.api.projects.enums.Status;
+import com.api.projects.services.ProjectService;
+import com.api.projects.services.TaskService;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * Compares the SpEL keys the filter caches used to evaluate on every call with {@link
+ * FilterKeyGenerator}. Parsed expressions are reused, as Spring's cache interceptor does, so the
+ * SpEL numbers only include the per-call evaluation context and evaluation. Run {@link #main} from
+ * the test classpath; the GC profiler reports the allocation per key in {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheKeyBenchmark {
+
+  private static final ParameterNameDiscoverer PARAMETER_NAMES =
+      new DefaultParameterNameDiscoverer();
+
+  private final FilterKeyGenerator keyGenerator = new FilterKeyGenerator();
+
+  private Expression projectListKey;
+  private Expression taskPageKey;
+  private Method projectFindByFilter;
+  private Method taskFindByFilter;
+  private ProjectFilterDTO projectFilter;
+  private TaskFilterDTO taskFilter;
+
+  @Setup
+  public void setUp() throws NoSuchMethodException {
+    SpelExpressionParser parser = new SpelExpressionParser();
+    projectListKey =
+        parser.parseExpression(
+            "{#request?.page ?: 0, #request?.size ?: 20, #request?.sortBy ?: 'id', #request?.direction ?: 'ASC'}");
+    taskPageKey = parser.parseExpression("T(com.api.projects.caches.TaskPageKey).of(#filter)");
+    projectFindByFilter = ProjectService.class.getMethod("findByFilter", ProjectFilterDTO.class);
+    taskFindByFilter = TaskService.class.getMethod("findByFilter", TaskFilterDTO.class);
+    projectFilter = new ProjectFilterDTO(1, 20, "name", "DESC");
+    taskFilter = new TaskFilterDTO(0, 10, "id", "ASC", Status.TODO, Priority.HIGH, 42L);
+  }
+
+  @Benchmark
+  public Object spelProjectKey() {
+    return projectListKey.getValue(
+        new MethodBasedEvaluationContext(
+            this, projectFindByFilter, new Object[] {projectFilter}, PARAMETER_NAMES));
+  }
+
+  @Benchmark
+  public Object spelTaskKey() {
+    return taskPageKey.getValue(
+        new MethodBasedEvaluationContext(
+            this, taskFindByFilter, new Object[] {taskFilter}, PARAMETER_NAMES));
+  }
+
+  @Benchmark
+  public Object generatedProjectKey() {
+    return keyGenerator.generate(this, projectFindByFilter, projectFilter);
+  }
+
+  @Benchmark
+  public Object generatedTaskKey() {
+    return keyGenerator.generate(this, taskFindByFilter, taskFilter);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(CacheKeyBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
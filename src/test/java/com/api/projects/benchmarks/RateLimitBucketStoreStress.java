@@ -0,0 +1,83 @@
+package com.api.projects.benchmarks;
+
+import com.api.projects.configs.RateLimitConfig;
+import com.api.projects.configs.RateLimitPolicy;
+import com.api.projects.configs.RateLimitProperties;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.ResolvableType;
+
+/**
+ * Stress check for the bounded bucket store in {@link RateLimitConfig}: after the store is full,
+ * millions more distinct client keys must leave the used heap flat. The result depends on the JVM
+ * and collector, so it is kept out of the unit suite. Run {@link #main} from the test classpath
+ * with a fixed heap, e.g. {@code -Xms1g -Xmx1g}; it fails with an exception when the heap grows by
+ * more than {@link #MAX_HEAP_GROWTH} bytes or the store exceeds {@code max-clients}.
+ */
+public class RateLimitBucketStoreStress {
+
+  private static final long MAX_CLIENTS = 10_000;
+  private static final int DISTINCT_CLIENTS = 2_000_000;
+  private static final long MAX_HEAP_GROWTH = 32L * 1024 * 1024;
+  private static final RateLimitPolicy POLICY =
+      RateLimitPolicy.of("default", List.of(), List.of(), 5, 60);
+
+  public static void main(String[] args) throws InterruptedException {
+    RateLimitProperties properties = new RateLimitProperties();
+    properties.setMaxClients(MAX_CLIENTS);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    RateLimitConfig rateLimitConfig =
+        new RateLimitConfig(
+            properties,
+            meterRegistry,
+            new StaticListableBeanFactory()
+                .<ProxyManager<String>>getBeanProvider(
+                    ResolvableType.forClassWithGenerics(ProxyManager.class, String.class)));
+
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    for (int i = 0; i < MAX_CLIENTS; i++) {
+      rateLimitConfig.resolveBucket(key(i), POLICY);
+    }
+    long baseline = usedHeapAfterGc(memory);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < DISTINCT_CLIENTS; i++) {
+      rateLimitConfig.resolveBucket(key(i), POLICY).tryConsume(1);
+    }
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+    long growth = usedHeapAfterGc(memory) - baseline;
+    // Caffeine applies evictions on a background executor
+    long deadline = System.nanoTime() + 10_000_000_000L;
+    while (meterRegistry.get("cache.size").gauge().value() > MAX_CLIENTS
+        && System.nanoTime() < deadline) {
+      rateLimitConfig.resolveBucket(key(0), POLICY);
+      Thread.sleep(50);
+    }
+    double size = meterRegistry.get("cache.size").gauge().value();
+    System.out.printf(
+        "%,d distinct clients in %,d ms: heap grew by %,d bytes, store holds %,.0f buckets%n",
+        DISTINCT_CLIENTS, elapsedMillis, growth, size);
+
+    if (growth > MAX_HEAP_GROWTH) {
+      throw new IllegalStateException("Heap grew by " + growth + " bytes");
+    }
+    if (size > MAX_CLIENTS) {
+      throw new IllegalStateException("Store holds " + size + " buckets");
+    }
+  }
+
+  private static String key(int i) {
+    return "10." + (i >>> 16 & 0xff) + "." + (i >>> 8 & 0xff) + "." + (i & 0xff) + "#" + i;
+  }
+
+  private static long usedHeapAfterGc(MemoryMXBean memory) throws InterruptedException {
+    System.gc();
+    Thread.sleep(100);
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+}
@@ -0,0 +1,142 @@
+package com.api.projects.benchmarks;
+
+import com.api.projects.ProjectsApplication;
+import com.api.projects.entities.User;
+import com.api.projects.securities.Role;
+import com.api.projects.services.TokenService;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcPrint;
+import org.springframework.boot.test.autoconfigure.web.servlet.SpringBootMockMvcBuilderCustomizer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.DefaultMockMvcBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Measures the full server-side cost of rejecting a throttled request, with every registered
+ * servlet filter in place as in {@code @AutoConfigureMockMvc}. One client sends a valid bearer
+ * token, the other a different forged token on every request, as in a flood of garbage tokens, so
+ * any authentication work done before the rate limit check shows up here. Boots the
+ * application with the {@code test} profile, so the test database must be reachable. Run {@link
+ * #main} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 12, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class RateLimitRejectionBenchmark {
+
+  private static final int FORGED_TOKENS = 4096;
+
+  private ConfigurableApplicationContext context;
+  private MockMvc mockMvc;
+  private String authorization;
+  private String[] forgedAuthorizations;
+  private int nextForged;
+
+  @Setup
+  public void setUp() throws Exception {
+    context =
+        new SpringApplicationBuilder(ProjectsApplication.class)
+            .profiles("test")
+            .run(
+                "--server.port=0",
+                "--rate-limit.requests=1",
+                "--rate-limit.duration=3600",
+                "--logging.level.root=WARN",
+                "--logging.level.com.api.projects=ERROR",
+                "--logging.level.org.springframework=WARN",
+                "--logging.level.org.springframework.security=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.org.springframework.cache=WARN");
+
+    DefaultMockMvcBuilder builder =
+        MockMvcBuilders.webAppContextSetup((WebApplicationContext) context);
+    SpringBootMockMvcBuilderCustomizer customizer =
+        new SpringBootMockMvcBuilderCustomizer((WebApplicationContext) context);
+    // The default print-on-failure handler buffers every exchange until a test finishes
+    customizer.setPrint(MockMvcPrint.NONE);
+    customizer.customize(builder);
+    mockMvc = builder.build();
+
+    authorization =
+        "Bearer "
+            + context
+                .getBean(TokenService.class)
+                .generateToken(
+                    User.builder().id(1L).username("benchmark").role(Role.ROLE_USER).build());
+
+    Algorithm forgedAlgorithm = Algorithm.HMAC256("forged-secret");
+    forgedAuthorizations = new String[FORGED_TOKENS];
+    for (int i = 0; i < FORGED_TOKENS; i++) {
+      forgedAuthorizations[i] =
+          "Bearer "
+              + JWT.create()
+                  .withSubject("forged-" + i)
+                  .withExpiresAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                  .sign(forgedAlgorithm);
+    }
+
+    // Spend the single token of both the address and the user so every measured request is
+    // rejected; the first request is limited by address until its token has been verified
+    mockMvc.perform(throttledRequest(authorization));
+    mockMvc.perform(throttledRequest(authorization));
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public int rejectedRequest() throws Exception {
+    return mockMvc.perform(throttledRequest(authorization)).andReturn().getResponse().getStatus();
+  }
+
+  @Benchmark
+  public int rejectedForgedToken() throws Exception {
+    String forged = forgedAuthorizations[nextForged++ & (FORGED_TOKENS - 1)];
+    return mockMvc.perform(throttledRequest(forged)).andReturn().getResponse().getStatus();
+  }
+
+  private MockHttpServletRequestBuilder throttledRequest(String authorization) {
+    return get("/api/v1/projects")
+        .header("Authorization", authorization)
+        .header("X-Forwarded-For", "203.0.113.10");
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(RateLimitRejectionBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
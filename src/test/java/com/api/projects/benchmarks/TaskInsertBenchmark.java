@@ -0,0 +1,110 @@
+package com.api.projects.benchmarks;
+
+import com.api.projects.ProjectsApplication;
+import com.api.projects.entities.Project;
+import com.api.projects.entities.Task;
+import com.api.projects.enums.Priority;
+import com.api.projects.enums.Status;
+import com.api.projects.repositories.ProjectRepository;
+import com.api.projects.repositories.TaskRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Measures a bulk load of 100,000 tasks through {@link TaskRepository#saveAll}, committed in chunks
+ * of 1,000 so the persistence context stays small. Reported as time per inserted task. Boots the
+ * application with the {@code test} profile, so the test database must be reachable. Run {@link
+ * #main} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 6)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class TaskInsertBenchmark {
+
+  private static final int TASKS = 100_000;
+  private static final int CHUNK_SIZE = 1_000;
+
+  private ConfigurableApplicationContext context;
+  private TaskRepository taskRepository;
+  private TransactionTemplate transactionTemplate;
+  private Project project;
+
+  @Setup
+  public void setUp() {
+    context =
+        new SpringApplicationBuilder(ProjectsApplication.class)
+            .profiles("test")
+            .run(
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--logging.level.com.api.projects=ERROR",
+                "--logging.level.org.springframework=WARN",
+                "--logging.level.org.springframework.security=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.org.springframework.cache=WARN");
+    taskRepository = context.getBean(TaskRepository.class);
+    transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    project =
+        context.getBean(ProjectRepository.class).save(Project.builder().name("Bulk load").build());
+  }
+
+  @TearDown(Level.Iteration)
+  public void deleteTasks() {
+    taskRepository.deleteAllInBatch();
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TASKS)
+  public int insertTasks() {
+    int inserted = 0;
+    while (inserted < TASKS) {
+      List<Task> chunk = new ArrayList<>(CHUNK_SIZE);
+      for (int i = 0; i < CHUNK_SIZE; i++, inserted++) {
+        chunk.add(
+            Task.builder()
+                .title("Task " + inserted)
+                .description("Bulk loaded task")
+                .status(Status.TODO)
+                .priority(Priority.MEDIUM)
+                .project(project)
+                .build());
+      }
+      transactionTemplate.executeWithoutResult(status -> taskRepository.saveAll(chunk));
+    }
+    return inserted;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(TaskInsertBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
@@ -0,0 +1,118 @@
+package com.api.projects.benchmarks;
+
+import com.api.projects.entities.User;
+import com.api.projects.securities.JwtFilter;
+import com.api.projects.securities.Role;
+import com.api.projects.securities.TokenRevocationList;
+import com.api.projects.services.TokenService;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Measures bearer token validation as {@link JwtFilter} sees it on repeated requests with the same
+ * token: a verifier built per call (the old behaviour), a reused verifier, and the verified-token
+ * cache in {@link TokenService}, plus the whole filter with and without the cache. Run {@link #main}
+ * from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenValidationBenchmark {
+
+  private static final String SECRET = "benchmark-secret";
+  private static final FilterChain NO_OP_CHAIN = (request, response) -> {};
+
+  private final Algorithm algorithm = Algorithm.HMAC256(SECRET);
+  private final JWTVerifier verifier = JWT.require(algorithm).build();
+
+  private TokenService tokenService;
+  private JwtFilter jwtFilter;
+  private JwtFilter uncachedJwtFilter;
+  private String token;
+  private MockHttpServletRequest request;
+
+  @Setup
+  public void setUp() {
+    tokenService =
+        new TokenService(SECRET, Duration.ofMinutes(15), 10_000, new SimpleMeterRegistry());
+    jwtFilter = new JwtFilter(tokenService, null, new TokenRevocationList(null, 10_000, null));
+    uncachedJwtFilter =
+        new JwtFilter(
+            new TokenService(SECRET, Duration.ofMinutes(15), 0, new SimpleMeterRegistry()),
+            null,
+            new TokenRevocationList(null, 10_000, null));
+    token =
+        tokenService.generateToken(
+            User.builder().id(1L).username("benchmark").role(Role.ROLE_USER).build());
+    request = new MockHttpServletRequest("GET", "/api/v1/projects");
+    request.addHeader("Authorization", "Bearer " + token);
+  }
+
+  @Benchmark
+  public Object verifierPerCall() {
+    return JWT.require(algorithm).build().verify(token);
+  }
+
+  @Benchmark
+  public Object reusedVerifier() {
+    return verifier.verify(token);
+  }
+
+  @Benchmark
+  public Object cachedValidation() {
+    return tokenService.validateToken(token);
+  }
+
+  @Benchmark
+  public Object filterWithCache() throws Exception {
+    return filter(jwtFilter);
+  }
+
+  @Benchmark
+  public Object filterWithoutCache() throws Exception {
+    return filter(uncachedJwtFilter);
+  }
+
+  private Object filter(JwtFilter filter) throws Exception {
+    // JwtFilter is a OncePerRequestFilter; clear the marker so each call runs the filter body
+    request.clearAttributes();
+    filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+    Object authentication = SecurityContextHolder.getContext().getAuthentication();
+    SecurityContextHolder.clearContext();
+    return authentication;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(TokenValidationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
@@ -1,10 +1,12 @@
 package com.api.projects.integration;
 
 import com.api.projects.dtos.auth.LoginDTO;
+import com.api.projects.dtos.auth.RefreshTokenDTO;
 import com.api.projects.dtos.auth.TokenDTO;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
@@ -15,13 +17,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class AuthControllerTest extends BaseIntegration {
 
   private static final String LOGIN_BASE_URL = "/api/v1/auth/login";
+  private static final String REFRESH_URL = "/api/v1/auth/refresh";
+  private static final String LOGOUT_URL = "/api/v1/auth/logout";
 
   @Test
   @DisplayName("POST /api/v1/auth/login - Should authenticate and return token")
   void login_ShouldReturnToken_WhenValidRequest() throws Exception {
     // Arrange
     LoginDTO login = LoginDTO.builder().username("validUser").password("Aa1@valid").build();
-    TokenDTO token = new TokenDTO("jwt-token");
+    TokenDTO token = new TokenDTO("jwt-token", "refresh-token");
 
     when(authService.authenticate(any(LoginDTO.class))).thenReturn(token);
 
@@ -33,7 +37,8 @@ class AuthControllerTest extends BaseIntegration {
                 .content(objectMapper.writeValueAsString(login)))
         .andExpect(status().isOk())
         .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
-        .andExpect(jsonPath("$.token", is("jwt-token")));
+        .andExpect(jsonPath("$.token", is("jwt-token")))
+        .andExpect(jsonPath("$.refreshToken", is("refresh-token")));
 
     verify(authService, times(1)).authenticate(any(LoginDTO.class));
   }
@@ -54,4 +59,50 @@ class AuthControllerTest extends BaseIntegration {
 
     verify(authService, never()).authenticate(any());
   }
+
+  @Test
+  @DisplayName("POST /api/v1/auth/refresh - Should return new tokens without authentication")
+  void refresh_ShouldReturnTokens_WhenValidRequest() throws Exception {
+    // Arrange
+    RefreshTokenDTO request = RefreshTokenDTO.builder().refreshToken("refresh-token").build();
+    when(authService.refresh(any(RefreshTokenDTO.class)))
+        .thenReturn(new TokenDTO("new-jwt-token", "new-refresh-token"));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            post(REFRESH_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.token", is("new-jwt-token")))
+        .andExpect(jsonPath("$.refreshToken", is("new-refresh-token")));
+  }
+
+  @Test
+  @WithMockUser(username = "testuser", roles = "USER")
+  @DisplayName("POST /api/v1/auth/logout - Should return 204 and revoke the refresh token")
+  void logout_ShouldReturnNoContent_WhenAuthenticated() throws Exception {
+    // Arrange
+    RefreshTokenDTO request = RefreshTokenDTO.builder().refreshToken("refresh-token").build();
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            post(LOGOUT_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isNoContent());
+
+    verify(authService, times(1)).logout(isNull(), eq("refresh-token"));
+  }
+
+  @Test
+  @DisplayName("POST /api/v1/auth/logout - Should return 401 when not authenticated")
+  void logout_ShouldReturnUnauthorized_WhenNotAuthenticated() throws Exception {
+    // Act & Assert
+    mockMvc.perform(post(LOGOUT_URL)).andExpect(status().isUnauthorized());
+
+    verify(authService, never()).logout(any(), any());
+  }
 }
@@ -0,0 +1,68 @@
+package com.api.projects.integration;
+
+import com.api.projects.configs.PostgresBucketProxyManager;
+import com.api.projects.configs.RateLimitConfig;
+import com.api.projects.configs.RateLimitPolicy;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = {"rate-limit.backend=postgres", "rate-limit.requests=5"})
+class PostgresRateLimitTest extends BaseIntegration {
+
+  private static final RateLimitPolicy POLICY =
+      RateLimitPolicy.of(RateLimitPolicy.DEFAULT_NAME, List.of(), List.of(), 5, 60);
+  private static final BucketConfiguration FIVE_PER_MINUTE = POLICY.configuration();
+
+  @Autowired private RateLimitConfig rateLimitConfig;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("Should enforce one limit across instances sharing the database")
+  void resolveBucket_ShouldShareTokens_WhenInstancesUseSameKey() {
+    String key = UUID.randomUUID().toString();
+    Bucket firstInstance = rateLimitConfig.resolveBucket(key, POLICY);
+    Bucket secondInstance =
+        new PostgresBucketProxyManager(jdbcTemplate, Duration.ofMinutes(1))
+            .builder()
+            .build(POLICY.name() + ":" + key, FIVE_PER_MINUTE);
+
+    assertTrue(firstInstance.tryConsume(3));
+    assertTrue(secondInstance.tryConsume(2));
+
+    assertFalse(firstInstance.tryConsume(1));
+    assertFalse(secondInstance.tryConsume(1));
+  }
+
+  @Test
+  @DisplayName("Should write back once per batch of tokens when delaying synchronization")
+  void delaying_ShouldAmortizeDatabaseWrites_WhenTokensAreConsumedLocally() {
+    String key = UUID.randomUUID().toString();
+    Bucket bucket =
+        new PostgresBucketProxyManager(jdbcTemplate, Duration.ofMinutes(1))
+            .builder()
+            .withOptimization(Optimizations.delaying(new DelayParameters(3, Duration.ofMinutes(1))))
+            .build(key, FIVE_PER_MINUTE);
+
+    for (int i = 0; i < 4; i++) {
+      assertTrue(bucket.tryConsume(1));
+    }
+
+    Long version =
+        jdbcTemplate.queryForObject(
+            "SELECT version FROM tb_rate_limit_buckets WHERE bucket_key = ?", Long.class, key);
+    assertTrue(version < 3, "expected fewer writes than requests, version was " + version);
+  }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 
@@ -170,6 +171,32 @@ class ProjectControllerTest extends BaseIntegration {
     verify(projectService, times(1)).findByFilter(any());
   }
 
+  @Test
+  @WithMockUser(username = "testuser", roles = "USER")
+  @DisplayName("GET /api/v1/projects/{id} - Should return 304 when If-None-Match matches the ETag")
+  void getProjectById_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+    // Arrange
+    Long projectId = 1L;
+    when(projectService.findById(projectId)).thenReturn(projectResponseDTO);
+
+    // Act
+    String etag =
+        mockMvc
+            .perform(get(PROJECT_BASE_URL + "/{id}", projectId))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    // Assert
+    assertThat(etag).isNotBlank();
+    mockMvc
+        .perform(get(PROJECT_BASE_URL + "/{id}", projectId).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+  }
+
   @Test
   @WithMockUser(username = "testuser", roles = "USER")
   @DisplayName("GET /api/v1/projects/{id} - Should return project by ID")
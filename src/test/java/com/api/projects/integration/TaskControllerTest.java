@@ -13,10 +13,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
@@ -104,6 +107,31 @@ class TaskControllerTest extends BaseIntegration {
     verify(taskService, times(1)).findById(10L);
   }
 
+  @Test
+  @WithMockUser(username = "testuser", roles = "USER")
+  @DisplayName("GET /api/v1/tasks/{id} - Should return 304 when If-None-Match matches the ETag")
+  void getById_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+    when(taskService.findById(10L)).thenReturn(taskResponseDTO);
+
+    String etag =
+        mockMvc
+            .perform(get(TASK_BASE_URL + "/{id}", 10L))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andExpect(
+                header().stringValues(HttpHeaders.VARY, hasItem(containsString("Authorization"))))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(get(TASK_BASE_URL + "/{id}", 10L).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, etag))
+        .andExpect(content().string(""));
+  }
+
   @Test
   @WithMockUser(username = "testuser", roles = "USER")
   @DisplayName("GET /api/v1/tasks - Should return paginated tasks")
@@ -132,6 +160,28 @@ class TaskControllerTest extends BaseIntegration {
     verify(taskService, times(1)).findByFilter(any());
   }
 
+  @Test
+  @WithMockUser(username = "testuser", roles = "USER")
+  @DisplayName("GET /api/v1/tasks - Should return 304 without querying when the list is unchanged")
+  void findByFilter_ShouldReturnNotModified_WhenListETagMatches() throws Exception {
+    when(taskService.findByFilter(any())).thenReturn(pageResponseDTO);
+
+    String etag =
+        mockMvc
+            .perform(get(TASK_BASE_URL).param("projectId", "1"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(get(TASK_BASE_URL).param("projectId", "1").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+
+    verify(taskService, times(1)).findByFilter(any());
+  }
+
   @Test
   @WithMockUser(username = "testuser", roles = "USER")
   @DisplayName("GET /api/v1/tasks - Should return empty page when no tasks")
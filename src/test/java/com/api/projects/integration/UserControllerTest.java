@@ -1,5 +1,6 @@
 package com.api.projects.integration;
 
+import com.api.projects.dtos.user.UserAvailabilityDTO;
 import com.api.projects.dtos.user.UserRequestDTO;
 import com.api.projects.dtos.user.UserResponseDTO;
 import org.junit.jupiter.api.DisplayName;
@@ -9,6 +10,7 @@ import org.springframework.http.MediaType;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -61,4 +63,19 @@ class UserControllerTest extends BaseIntegration {
 
     verify(userService, never()).create(any());
   }
+
+  @Test
+  @DisplayName("GET /api/v1/users/availability - Should report availability without authentication")
+  void checkAvailability_ShouldReturnOk_WhenAnonymous() throws Exception {
+    when(userService.checkAvailability("Rafael", null))
+        .thenReturn(new UserAvailabilityDTO(false, null));
+
+    mockMvc
+        .perform(get(USER_BASE_URL + "/availability").param("username", "Rafael"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.usernameAvailable", is(false)))
+        .andExpect(jsonPath("$.emailAvailable").doesNotExist());
+
+    verify(userService, times(1)).checkAvailability("Rafael", null);
+  }
 }
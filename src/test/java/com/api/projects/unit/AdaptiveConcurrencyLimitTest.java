@@ -0,0 +1,120 @@
+package com.api.projects.unit;
+
+import com.api.projects.utils.AdaptiveConcurrencyLimit;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+  private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+  @Test
+  @DisplayName("Should raise the limit while latency stays at its no-load level")
+  void release_ShouldGrowLimit_WhenLatencyIsFlat() {
+    // Arrange
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 4, 100);
+
+    // Act
+    runSaturated(limit, RTT, false, 20);
+
+    // Assert
+    assertTrue(limit.getLimit() > 10);
+    assertEquals(0, limit.getInFlight());
+  }
+
+  @Test
+  @DisplayName("Should lower the limit once latency shows requests queuing")
+  void release_ShouldShrinkLimit_WhenLatencyRises() {
+    // Arrange
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(50, 4, 100);
+    runSaturated(limit, RTT, false, 1);
+    int before = limit.getLimit();
+
+    // Act
+    runSaturated(limit, RTT * 4, false, 5);
+
+    // Assert
+    assertTrue(limit.getLimit() < before);
+    assertTrue(limit.getEstimatedQueue() > 0);
+  }
+
+  @Test
+  @DisplayName("Should lower the limit when requests fail")
+  void release_ShouldShrinkLimit_WhenRequestsAreDropped() {
+    // Arrange
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(50, 4, 100);
+
+    // Act
+    runSaturated(limit, RTT, true, 1);
+
+    // Assert
+    assertTrue(limit.getLimit() < 50);
+  }
+
+  @Test
+  @DisplayName("Should not grow the limit while the service uses little of it")
+  void release_ShouldKeepLimit_WhenUnderused() {
+    // Arrange
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 100);
+
+    // Act
+    for (int i = 0; i < 100; i++) {
+      assertTrue(limit.tryAcquire(1.0));
+      limit.release(RTT, false);
+    }
+
+    // Assert
+    assertEquals(20, limit.getLimit());
+  }
+
+  @Test
+  @DisplayName("Should refuse a partition once it holds its share of the limit")
+  void tryAcquire_ShouldRejectPartition_WhenShareIsExhausted() {
+    // Arrange
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 4, 100);
+    for (int i = 0; i < 5; i++) {
+      assertTrue(limit.tryAcquire(0.5));
+    }
+
+    // Act & Assert
+    assertFalse(limit.tryAcquire(0.5));
+    for (int i = 0; i < 5; i++) {
+      assertTrue(limit.tryAcquire(1.0));
+    }
+    assertFalse(limit.tryAcquire(1.0));
+    assertEquals(10, limit.getInFlight());
+  }
+
+  @Test
+  @DisplayName("Should keep the limit within its bounds")
+  void release_ShouldClampLimit_WhenAdjusting() {
+    // Arrange
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 4, 30);
+
+    // Act
+    runSaturated(limit, RTT, false, 50);
+    int grown = limit.getLimit();
+    runSaturated(limit, RTT, true, 50);
+
+    // Assert
+    assertEquals(30, grown);
+    assertEquals(4, limit.getLimit());
+  }
+
+  /** Fills the limit, then completes every request with the given latency. */
+  private static void runSaturated(
+      AdaptiveConcurrencyLimit limit, long rttNanos, boolean dropped, int rounds) {
+    for (int round = 0; round < rounds; round++) {
+      int acquired = 0;
+      while (limit.tryAcquire(1.0)) {
+        acquired++;
+      }
+      for (int i = 0; i < acquired; i++) {
+        limit.release(rttNanos, dropped);
+      }
+    }
+  }
+}
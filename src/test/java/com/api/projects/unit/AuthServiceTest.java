@@ -1,9 +1,16 @@
 package com.api.projects.unit;
 
 import com.api.projects.dtos.auth.LoginDTO;
+import com.api.projects.dtos.auth.RefreshTokenDTO;
 import com.api.projects.dtos.auth.TokenDTO;
+import com.api.projects.entities.User;
+import com.api.projects.securities.Role;
+import com.api.projects.securities.TokenRevocationList;
 import com.api.projects.services.AuthService;
+import com.api.projects.services.RefreshTokenService;
+import com.api.projects.services.RefreshTokenService.Rotation;
 import com.api.projects.services.TokenService;
+import com.api.projects.services.TokenService.VerifiedToken;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +23,8 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 
+import java.time.Instant;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -27,6 +36,10 @@ class AuthServiceTest {
 
   @Mock private TokenService tokenService;
 
+  @Mock private RefreshTokenService refreshTokenService;
+
+  @Mock private TokenRevocationList tokenRevocationList;
+
   @InjectMocks private AuthService authService;
 
   @Test
@@ -35,11 +48,13 @@ class AuthServiceTest {
     // Arrange
     LoginDTO login = LoginDTO.builder().username("Rafael").password("@Password123").build();
 
+    User user = User.builder().id(1L).username("Rafael").role(Role.ROLE_USER).build();
     Authentication authentication = mock(Authentication.class);
-    when(authentication.getName()).thenReturn("Rafael");
+    when(authentication.getPrincipal()).thenReturn(user);
     when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
         .thenReturn(authentication);
-    when(tokenService.generateToken("Rafael")).thenReturn("jwt-token-12345");
+    when(tokenService.generateToken(user)).thenReturn("jwt-token-12345");
+    when(refreshTokenService.issue(user)).thenReturn("refresh-token-12345");
 
     // Act
     TokenDTO result = authService.authenticate(login);
@@ -47,9 +62,10 @@ class AuthServiceTest {
     // Assert
     assertNotNull(result);
     assertEquals("jwt-token-12345", result.token());
+    assertEquals("refresh-token-12345", result.refreshToken());
     verify(authenticationManager, times(1))
         .authenticate(any(UsernamePasswordAuthenticationToken.class));
-    verify(tokenService, times(1)).generateToken("Rafael");
+    verify(tokenService, times(1)).generateToken(user);
   }
 
   @Test
@@ -58,11 +74,12 @@ class AuthServiceTest {
     // Arrange
     LoginDTO login = LoginDTO.builder().username("Rafael").password("@Password123").build();
 
+    User user = User.builder().id(1L).username("Rafael").role(Role.ROLE_USER).build();
     Authentication authentication = mock(Authentication.class);
-    when(authentication.getName()).thenReturn("Rafael");
+    when(authentication.getPrincipal()).thenReturn(user);
     when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
         .thenReturn(authentication);
-    when(tokenService.generateToken("Rafael")).thenReturn("jwt-token-12345");
+    when(tokenService.generateToken(user)).thenReturn("jwt-token-12345");
 
     // Act
     TokenDTO result = authService.authenticate(login);
@@ -98,7 +115,8 @@ class AuthServiceTest {
     assertEquals("Invalid username or password", exception.getMessage());
     verify(authenticationManager, times(1))
         .authenticate(any(UsernamePasswordAuthenticationToken.class));
-    verify(tokenService, never()).generateToken(anyString());
+    verify(tokenService, never()).generateToken(any(User.class));
+    verify(refreshTokenService, never()).issue(any(User.class));
   }
 
   @Test
@@ -115,7 +133,7 @@ class AuthServiceTest {
 
     verify(authenticationManager, times(1))
         .authenticate(any(UsernamePasswordAuthenticationToken.class));
-    verify(tokenService, never()).generateToken(anyString());
+    verify(tokenService, never()).generateToken(any(User.class));
   }
 
   @Test
@@ -132,7 +150,7 @@ class AuthServiceTest {
 
     verify(authenticationManager, times(1))
         .authenticate(any(UsernamePasswordAuthenticationToken.class));
-    verify(tokenService, never()).generateToken(anyString());
+    verify(tokenService, never()).generateToken(any(User.class));
   }
 
   @Test
@@ -152,7 +170,7 @@ class AuthServiceTest {
     assertEquals("User not found", exception.getMessage());
     verify(authenticationManager, times(1))
         .authenticate(any(UsernamePasswordAuthenticationToken.class));
-    verify(tokenService, never()).generateToken(anyString());
+    verify(tokenService, never()).generateToken(any(User.class));
   }
 
   @Test
@@ -162,7 +180,7 @@ class AuthServiceTest {
     assertThrows(NullPointerException.class, () -> authService.authenticate(null));
 
     verify(authenticationManager, never()).authenticate(any());
-    verify(tokenService, never()).generateToken(anyString());
+    verify(tokenService, never()).generateToken(any(User.class));
   }
 
   @Test
@@ -177,11 +195,12 @@ class AuthServiceTest {
 
       LoginDTO login = LoginDTO.builder().username(username).password("@Password123").build();
 
+      User user = User.builder().id(1L).username(username).role(Role.ROLE_USER).build();
       Authentication authentication = mock(Authentication.class);
-      when(authentication.getName()).thenReturn(username);
+      when(authentication.getPrincipal()).thenReturn(user);
       when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
           .thenReturn(authentication);
-      when(tokenService.generateToken(username)).thenReturn("token-for-" + username);
+      when(tokenService.generateToken(user)).thenReturn("token-for-" + username);
 
       // Act
       TokenDTO result = authService.authenticate(login);
@@ -191,7 +210,67 @@ class AuthServiceTest {
       assertEquals("token-for-" + username, result.token());
       verify(authenticationManager, times(1))
           .authenticate(any(UsernamePasswordAuthenticationToken.class));
-      verify(tokenService, times(1)).generateToken(username);
+      verify(tokenService, times(1)).generateToken(user);
     }
   }
+
+  @Test
+  @DisplayName("Should issue a new token pair when the refresh token is valid")
+  void refresh_ShouldReturnNewTokens_WhenRefreshTokenIsValid() {
+    // Arrange
+    User user = User.builder().id(1L).username("Rafael").role(Role.ROLE_USER).build();
+    when(refreshTokenService.rotate("old-refresh")).thenReturn(new Rotation(user, "new-refresh"));
+    when(tokenService.generateToken(user)).thenReturn("new-access");
+
+    // Act
+    TokenDTO result =
+        authService.refresh(RefreshTokenDTO.builder().refreshToken("old-refresh").build());
+
+    // Assert
+    assertEquals("new-access", result.token());
+    assertEquals("new-refresh", result.refreshToken());
+    verifyNoInteractions(authenticationManager);
+  }
+
+  @Test
+  @DisplayName("Should not issue an access token when the refresh token is rejected")
+  void refresh_ShouldThrowBadCredentialsException_WhenRefreshTokenIsInvalid() {
+    // Arrange
+    when(refreshTokenService.rotate("unknown"))
+        .thenThrow(new BadCredentialsException("Invalid refresh token"));
+
+    // Act & Assert
+    assertThrows(
+        BadCredentialsException.class,
+        () -> authService.refresh(RefreshTokenDTO.builder().refreshToken("unknown").build()));
+    verify(tokenService, never()).generateToken(any(User.class));
+  }
+
+  @Test
+  @DisplayName("Should revoke the access token and the refresh token on logout")
+  void logout_ShouldRevokeBothTokens_WhenBothAreGiven() {
+    // Arrange
+    Instant expiresAt = Instant.now().plusSeconds(600);
+    VerifiedToken accessToken = new VerifiedToken("jti-1", "Rafael", expiresAt, null);
+
+    // Act
+    authService.logout(accessToken, "refresh-token");
+
+    // Assert
+    verify(tokenRevocationList, times(1)).revoke("jti-1", expiresAt);
+    verify(refreshTokenService, times(1)).revoke("refresh-token");
+  }
+
+  @Test
+  @DisplayName("Should skip revocation for access tokens issued without a token id")
+  void logout_ShouldNotRevokeAccessToken_WhenTokenHasNoId() {
+    // Arrange
+    VerifiedToken legacyToken = new VerifiedToken(null, "Rafael", Instant.now(), null);
+
+    // Act
+    authService.logout(legacyToken, null);
+
+    // Assert
+    verifyNoInteractions(tokenRevocationList, refreshTokenService);
+  }
 }
@@ -0,0 +1,41 @@
+package com.api.projects.unit;
+
+import com.api.projects.utils.BloomFilter;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+  @Test
+  @DisplayName("Should report every added value as possibly present")
+  void mightContain_ShouldReturnTrue_WhenValueWasAdded() {
+    // Arrange
+    BloomFilter filter = BloomFilter.create(1_000, 0.01);
+    var values = IntStream.range(0, 1_000).mapToObj(i -> UUID.randomUUID().toString()).toList();
+
+    // Act
+    values.forEach(filter::put);
+
+    // Assert
+    assertTrue(values.stream().allMatch(filter::mightContain));
+  }
+
+  @Test
+  @DisplayName("Should keep false positives close to the configured probability")
+  void mightContain_ShouldRarelyReturnTrue_WhenValueWasNotAdded() {
+    // Arrange
+    BloomFilter filter = BloomFilter.create(1_000, 0.01);
+    IntStream.range(0, 1_000).forEach(i -> filter.put("revoked-" + i));
+
+    // Act
+    long falsePositives =
+        IntStream.range(0, 10_000).filter(i -> filter.mightContain("active-" + i)).count();
+
+    // Assert
+    assertTrue(falsePositives < 300, "False positives: " + falsePositives);
+  }
+}
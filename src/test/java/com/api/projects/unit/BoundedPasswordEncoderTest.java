@@ -0,0 +1,109 @@
+package com.api.projects.unit;
+
+import com.api.projects.configs.PasswordHashingProperties;
+import com.api.projects.exceptions.ServiceUnavailableException;
+import com.api.projects.securities.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final CountDownLatch started = new CountDownLatch(1);
+
+  private PasswordHashingProperties properties;
+  private BoundedPasswordEncoder encoder;
+
+  @BeforeEach
+  void setUp() {
+    properties = new PasswordHashingProperties();
+    properties.setThreads(1);
+    properties.setQueueCapacity(1);
+    properties.setRetryAfter(Duration.ofSeconds(3));
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    encoder.destroy();
+  }
+
+  @Test
+  @DisplayName("Should hash and verify passwords on the worker pool")
+  void encode_ShouldDelegateToBCrypt_WhenPoolHasCapacity() {
+    // Arrange
+    encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), properties, meterRegistry);
+
+    // Act
+    String hash = encoder.encode("@Password123");
+
+    // Assert
+    assertTrue(encoder.matches("@Password123", hash));
+    assertFalse(encoder.matches("wrong", hash));
+    assertEquals(
+        1L,
+        meterRegistry.get("password.hash.duration").tag("operation", "encode").timer().count());
+    assertEquals(3L, meterRegistry.get("password.hash.queue.wait").timer().count());
+  }
+
+  @Test
+  @DisplayName("Should reject with retry information when the queue is full")
+  void encode_ShouldThrowServiceUnavailable_WhenQueueIsFull() throws Exception {
+    // Arrange
+    encoder = new BoundedPasswordEncoder(new BlockingEncoder(), properties, meterRegistry);
+    CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+    waitForQueuedTask();
+
+    // Act
+    ServiceUnavailableException exception =
+        assertThrows(ServiceUnavailableException.class, () -> encoder.encode("c"));
+
+    // Assert
+    assertEquals(3L, exception.getRetryAfterSeconds());
+    assertEquals(1.0, meterRegistry.get("password.hash.rejected").counter().count());
+    release.countDown();
+    assertEquals("a", running.get(5, TimeUnit.SECONDS));
+    assertEquals("b", queued.get(5, TimeUnit.SECONDS));
+  }
+
+  private void waitForQueuedTask() throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (meterRegistry.get("executor.queued").gauge().value() < 1) {
+      assertTrue(System.nanoTime() < deadline, "Second task was never queued");
+      Thread.sleep(5);
+    }
+  }
+
+  private class BlockingEncoder implements PasswordEncoder {
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      return rawPassword.toString();
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      return rawPassword.toString().equals(encodedPassword);
+    }
+  }
+}
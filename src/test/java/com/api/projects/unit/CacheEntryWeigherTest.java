@@ -0,0 +1,37 @@
+package com.api.projects.unit;
+
+import com.api.projects.caches.CacheEntryWeigher;
+import com.api.projects.dtos.pagination.PageResponseDTO;
+import com.api.projects.dtos.project.ProjectResponseDTO;
+import com.api.projects.dtos.task.TaskResponseDTO;
+import com.api.projects.unit.mocks.TaskMock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheEntryWeigherTest {
+
+  private final CacheEntryWeigher weigher = new CacheEntryWeigher();
+
+  @Test
+  @DisplayName("Should weigh a page of tasks proportionally to its content")
+  void weigh_ShouldScaleWithPageContent() {
+    // Arrange
+    ProjectResponseDTO project = TaskMock.createProjectResponseDTO();
+    List<TaskResponseDTO> tasks = Collections.nCopies(100, TaskMock.createTaskResponseDTO());
+    PageResponseDTO<TaskResponseDTO> page =
+        new PageResponseDTO<>(tasks, 0, 1, 100, 100, true, true);
+
+    // Act
+    int projectWeight = weigher.weigh(1L, project);
+    int pageWeight = weigher.weigh(1L, page);
+
+    // Assert
+    assertTrue(projectWeight > 0);
+    assertTrue(pageWeight > 100 * projectWeight);
+  }
+}
@@ -0,0 +1,77 @@
+package com.api.projects.unit;
+
+import com.api.projects.caches.CacheStatsCounter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheStatsCounterTest {
+
+  private SimpleMeterRegistry registry;
+  private Cache<Long, String> cache;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    cache =
+        Caffeine.newBuilder()
+            .maximumSize(1)
+            .executor(Runnable::run)
+            .recordStats(() -> new CacheStatsCounter(registry, "task"))
+            .build();
+  }
+
+  @Test
+  @DisplayName("Should count hits and misses per cache name")
+  void recordHitsAndMisses_ShouldRegisterCounters_WhenCacheIsRead() {
+    // Arrange
+    cache.put(1L, "task-1");
+
+    // Act
+    cache.getIfPresent(1L);
+    cache.getIfPresent(1L);
+    cache.getIfPresent(2L);
+
+    // Assert
+    assertEquals(
+        2.0, registry.get("cache.gets").tags("cache", "task", "result", "hit").counter().count());
+    assertEquals(
+        1.0, registry.get("cache.gets").tags("cache", "task", "result", "miss").counter().count());
+  }
+
+  @Test
+  @DisplayName("Should count evictions by removal cause")
+  void recordEviction_ShouldTagEvictionsWithCause_WhenCacheExceedsItsBound() {
+    // Act
+    cache.put(1L, "task-1");
+    cache.put(2L, "task-2");
+    cache.cleanUp();
+
+    // Assert
+    assertEquals(
+        1L,
+        registry
+            .get("cache.evictions")
+            .tags("cache", "task", "cause", "SIZE")
+            .summary()
+            .count());
+  }
+
+  @Test
+  @DisplayName("Should time loads and expose the same numbers through Caffeine stats")
+  void recordLoadSuccess_ShouldRecordLoadTimer_WhenValueIsLoaded() {
+    // Act
+    cache.get(1L, id -> "task-" + id);
+
+    // Assert
+    assertEquals(
+        1L,
+        registry.get("cache.loads").tags("cache", "task", "result", "success").timer().count());
+    assertEquals(1L, cache.stats().loadSuccessCount());
+  }
+}
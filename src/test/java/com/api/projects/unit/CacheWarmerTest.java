@@ -0,0 +1,125 @@
+package com.api.projects.unit;
+
+import com.api.projects.caches.CacheWarmer;
+import com.api.projects.caches.HotKeyTracker;
+import com.api.projects.configs.CacheProperties;
+import com.api.projects.dtos.project.ProjectFilterDTO;
+import com.api.projects.dtos.task.TaskFilterDTO;
+import com.api.projects.exceptions.NotFoundException;
+import com.api.projects.services.ProjectService;
+import com.api.projects.services.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmerTest {
+
+  @Mock private ProjectService projectService;
+
+  @Mock private TaskService taskService;
+
+  @TempDir private Path tempDir;
+
+  private CacheProperties cacheProperties;
+  private HotKeyTracker hotKeyTracker;
+
+  @BeforeEach
+  void setUp() {
+    cacheProperties = new CacheProperties();
+    cacheProperties.getWarmUp().setSnapshotFile(tempDir.resolve("hot-keys.json"));
+    cacheProperties.getWarmUp().setHotKeys(2);
+    hotKeyTracker = new HotKeyTracker(cacheProperties, new ObjectMapper());
+  }
+
+  @Test
+  @DisplayName("Should persist the most accessed ids per cache at shutdown")
+  void saveSnapshot_ShouldPersistHottestIds_WhenKeysWereAccessed() {
+    // Arrange
+    hotKeyTracker.recordAccess("project", 1L);
+    hotKeyTracker.recordAccess("project", 2L);
+    hotKeyTracker.recordAccess("project", 2L);
+    hotKeyTracker.recordAccess("project", 3L);
+    hotKeyTracker.recordAccess("project", 3L);
+    hotKeyTracker.recordAccess("project", 3L);
+    hotKeyTracker.recordAccess("task", 7L);
+
+    // Act
+    hotKeyTracker.saveSnapshot();
+    Map<String, List<Long>> snapshot =
+        new HotKeyTracker(cacheProperties, new ObjectMapper()).loadSnapshot();
+
+    // Assert
+    assertEquals(List.of(3L, 2L), snapshot.get("project"));
+    assertEquals(List.of(7L), snapshot.get("task"));
+  }
+
+  @Test
+  @DisplayName("Should not write a snapshot when saving snapshots is disabled")
+  void saveSnapshot_ShouldNotWriteFile_WhenDisabled() {
+    // Arrange
+    cacheProperties.getWarmUp().setSaveSnapshot(false);
+    hotKeyTracker.recordAccess("project", 1L);
+
+    // Act
+    hotKeyTracker.saveSnapshot();
+
+    // Assert
+    assertFalse(Files.exists(cacheProperties.getWarmUp().getSnapshotFile()));
+  }
+
+  @Test
+  @DisplayName("Should load default pages and snapshot ids, skipping ids that no longer exist")
+  void run_ShouldPreloadDefaultPagesAndHotIds_WhenSnapshotExists() {
+    // Arrange
+    hotKeyTracker.recordAccess("project", 1L);
+    hotKeyTracker.recordAccess("task", 10L);
+    hotKeyTracker.recordAccess("task", 11L);
+    hotKeyTracker.saveSnapshot();
+    when(taskService.findById(10L)).thenThrow(new NotFoundException("Task not found by id: 10"));
+
+    CacheWarmer cacheWarmer =
+        new CacheWarmer(cacheProperties, hotKeyTracker, projectService, taskService);
+
+    // Act
+    assertDoesNotThrow(() -> cacheWarmer.run(null));
+
+    // Assert
+    verify(projectService, times(1)).findByFilter(any(ProjectFilterDTO.class));
+    verify(taskService, times(1)).findByFilter(any(TaskFilterDTO.class));
+    verify(projectService, times(1)).findById(1L);
+    verify(taskService, times(1)).findById(10L);
+    verify(taskService, times(1)).findById(11L);
+  }
+
+  @Test
+  @DisplayName("Should only load default pages when no snapshot exists")
+  void run_ShouldOnlyLoadDefaultPages_WhenSnapshotIsMissing() {
+    // Arrange
+    CacheWarmer cacheWarmer =
+        new CacheWarmer(cacheProperties, hotKeyTracker, projectService, taskService);
+
+    // Act
+    cacheWarmer.run(null);
+
+    // Assert
+    verify(projectService, times(1)).findByFilter(any(ProjectFilterDTO.class));
+    verify(taskService, times(1)).findByFilter(any(TaskFilterDTO.class));
+    verify(projectService, never()).findById(any());
+    verify(taskService, never()).findById(any());
+  }
+}
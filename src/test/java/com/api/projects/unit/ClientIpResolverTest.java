@@ -0,0 +1,71 @@
+package com.api.projects.unit;
+
+import com.api.projects.configs.ClientIpResolver;
+import com.api.projects.configs.RateLimitProperties;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientIpResolverTest {
+
+  private ClientIpResolver clientIpResolver;
+
+  @BeforeEach
+  void setUp() {
+    RateLimitProperties properties = new RateLimitProperties();
+    properties.setTrustedProxies(List.of("10.0.0.0/8", "::1"));
+    clientIpResolver = new ClientIpResolver(properties);
+  }
+
+  @Test
+  @DisplayName("Should ignore X-Forwarded-For when the connection is not from a trusted proxy")
+  void resolve_ShouldUseRemoteAddress_WhenPeerIsNotTrusted() {
+    // Arrange
+    MockHttpServletRequest request = request("203.0.113.9", "198.51.100.1");
+
+    // Act & Assert
+    assertEquals("203.0.113.9", clientIpResolver.resolve(request));
+  }
+
+  @Test
+  @DisplayName("Should use the address appended by the trusted proxy, not the ones sent by the client")
+  void resolve_ShouldSkipSpoofedEntries_WhenPeerIsTrusted() {
+    // Arrange
+    MockHttpServletRequest request =
+        request("10.0.0.5", "1.2.3.4, 198.51.100.7, 10.0.0.4");
+
+    // Act & Assert
+    assertEquals("198.51.100.7", clientIpResolver.resolve(request));
+  }
+
+  @Test
+  @DisplayName("Should match trusted proxies in any IPv6 notation")
+  void resolve_ShouldTrustProxy_WhenIpv6LoopbackIsExpanded() {
+    // Arrange
+    MockHttpServletRequest request = request("0:0:0:0:0:0:0:1", "198.51.100.7");
+
+    // Act & Assert
+    assertEquals("198.51.100.7", clientIpResolver.resolve(request));
+  }
+
+  @Test
+  @DisplayName("Should fall back to the last valid hop when the header contains a host name")
+  void resolve_ShouldStopAtInvalidEntry_WhenHeaderIsMalformed() {
+    // Arrange
+    MockHttpServletRequest request = request("10.0.0.5", "example.com, 10.0.0.4");
+
+    // Act & Assert
+    assertEquals("10.0.0.4", clientIpResolver.resolve(request));
+  }
+
+  private MockHttpServletRequest request(String remoteAddress, String forwardedFor) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/projects");
+    request.setRemoteAddr(remoteAddress);
+    request.addHeader("X-Forwarded-For", forwardedFor);
+    return request;
+  }
+}
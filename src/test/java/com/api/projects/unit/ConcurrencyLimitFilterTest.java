@@ -0,0 +1,164 @@
+package com.api.projects.unit;
+
+import com.api.projects.configs.ConcurrencyLimitFilter;
+import com.api.projects.configs.ConcurrencyLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private ConcurrencyLimitFilter filter;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+    properties.setInitialLimit(4);
+    properties.setMinLimit(4);
+    properties.setMaxLimit(4);
+    meterRegistry = new SimpleMeterRegistry();
+    filter = new ConcurrencyLimitFilter(properties, meterRegistry, new ObjectMapper());
+  }
+
+  @Test
+  @DisplayName("Should shed writes with 503 once they hold their share of the limit")
+  void doFilter_ShouldRejectWrite_WhenWriteShareIsExhausted() throws Exception {
+    // Arrange
+    filter.getLimit().tryAcquire(0.5);
+    filter.getLimit().tryAcquire(0.5);
+    MockHttpServletResponse write = new MockHttpServletResponse();
+    MockHttpServletResponse read = new MockHttpServletResponse();
+
+    // Act
+    filter.doFilter(
+        new MockHttpServletRequest("DELETE", "/api/v1/tasks"), write, new MockFilterChain());
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/tasks"), read, new MockFilterChain());
+
+    // Assert
+    assertEquals(503, write.getStatus());
+    assertEquals("1", write.getHeader("Retry-After"));
+    assertTrue(write.getContentAsString().contains("Service unavailable"));
+    assertEquals(200, read.getStatus());
+    assertEquals(
+        1,
+        meterRegistry.get("concurrency.rejected").tag("partition", "write").counter().count());
+    assertEquals(2, filter.getLimit().getInFlight());
+  }
+
+  @Test
+  @DisplayName("Should release the slot and export gauges after the request completes")
+  void doFilter_ShouldReleaseSlot_WhenRequestCompletes() throws Exception {
+    // Act
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/api/v1/projects"),
+        new MockHttpServletResponse(),
+        new MockFilterChain());
+
+    // Assert
+    assertEquals(0, filter.getLimit().getInFlight());
+    assertEquals(4, meterRegistry.get("concurrency.limit").gauge().value());
+    assertEquals(0, meterRegistry.get("concurrency.inflight").gauge().value());
+  }
+
+  @Test
+  @DisplayName("Should not lower the limit when the service sheds a request with 503")
+  void doFilter_ShouldNotCountDrop_WhenResponseIs503() throws Exception {
+    // Arrange
+    ConcurrencyLimitFilter adaptive = adaptiveFilter();
+    fill(adaptive, 9);
+
+    // Act
+    adaptive.doFilter(
+        new MockHttpServletRequest("GET", "/api/v1/projects"),
+        new MockHttpServletResponse(),
+        respondingWith(HttpServletResponse.SC_SERVICE_UNAVAILABLE));
+
+    // Assert
+    assertTrue(adaptive.getLimit().getLimit() >= 10);
+  }
+
+  @Test
+  @DisplayName("Should hold a slot without sampling requests on unsampled paths")
+  void doFilter_ShouldNotSample_WhenPathIsUnsampled() throws Exception {
+    // Arrange
+    ConcurrencyLimitFilter adaptive = adaptiveFilter();
+    fill(adaptive, 9);
+
+    // Act
+    adaptive.doFilter(
+        new MockHttpServletRequest("POST", "/api/v1/auth/login"),
+        new MockHttpServletResponse(),
+        respondingWith(HttpServletResponse.SC_INTERNAL_SERVER_ERROR));
+
+    // Assert
+    assertEquals(10, adaptive.getLimit().getLimit());
+    assertEquals(9, adaptive.getLimit().getInFlight());
+  }
+
+  @Test
+  @DisplayName("Should not create the filter or its meters unless the limit is enabled")
+  void filter_ShouldOnlyRegisterMeters_WhenEnabled() {
+    ApplicationContextRunner contextRunner =
+        new ApplicationContextRunner()
+            .withBean(SimpleMeterRegistry.class)
+            .withBean(ObjectMapper.class)
+            .withUserConfiguration(ConcurrencyLimitConfiguration.class);
+
+    contextRunner.run(
+        context -> {
+          assertTrue(context.getBeansOfType(ConcurrencyLimitFilter.class).isEmpty());
+          assertNull(context.getBean(SimpleMeterRegistry.class).find("concurrency.limit").gauge());
+        });
+    contextRunner
+        .withPropertyValues("concurrency-limit.enabled=true")
+        .run(
+            context -> {
+              assertNotNull(context.getBean(ConcurrencyLimitFilter.class));
+              assertNotNull(
+                  context.getBean(SimpleMeterRegistry.class).find("concurrency.limit").gauge());
+            });
+  }
+
+  @EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+  @Import(ConcurrencyLimitFilter.class)
+  static class ConcurrencyLimitConfiguration {}
+
+  private ConcurrencyLimitFilter adaptiveFilter() throws Exception {
+    ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+    properties.setInitialLimit(10);
+    properties.setMinLimit(4);
+    properties.setMaxLimit(100);
+    return new ConcurrencyLimitFilter(properties, new SimpleMeterRegistry(), new ObjectMapper());
+  }
+
+  private static void fill(ConcurrencyLimitFilter filter, int slots) {
+    for (int i = 0; i < slots; i++) {
+      assertTrue(filter.getLimit().tryAcquire(1.0));
+    }
+  }
+
+  private static MockFilterChain respondingWith(int status) {
+    return new MockFilterChain(
+        new HttpServlet() {
+          @Override
+          protected void service(
+              HttpServletRequest request, HttpServletResponse response) {
+            response.setStatus(status);
+          }
+        });
+  }
+}
@@ -0,0 +1,79 @@
+package com.api.projects.unit;
+
+import com.api.projects.caches.FilterKeyGenerator;
+import com.api.projects.caches.ProjectPageKey;
+import com.api.projects.caches.TaskPageKey;
+import com.api.projects.dtos.project.ProjectFilterDTO;
+import com.api.projects.dtos.task.TaskFilterDTO;
+import com.api.projects.enums.Priority;
+import com.api.projects.enums.Status;
+import com.api.projects.services.ProjectService;
+import com.api.projects.services.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterKeyGeneratorTest {
+
+  private final FilterKeyGenerator keyGenerator = new FilterKeyGenerator();
+
+  private Method projectFindByFilter;
+  private Method taskFindByFilter;
+
+  @BeforeEach
+  void setUp() throws NoSuchMethodException {
+    projectFindByFilter = ProjectService.class.getMethod("findByFilter", ProjectFilterDTO.class);
+    taskFindByFilter = TaskService.class.getMethod("findByFilter", TaskFilterDTO.class);
+  }
+
+  @Test
+  @DisplayName("Should build equal task keys for equal filters")
+  void generate_ShouldReturnEqualKeys_WhenTaskFiltersAreEqual() {
+    // Arrange
+    TaskFilterDTO first = new TaskFilterDTO(0, 10, "id", "ASC", Status.TODO, Priority.HIGH, 1L);
+    TaskFilterDTO second = new TaskFilterDTO(0, 10, "id", "ASC", Status.TODO, Priority.HIGH, 1L);
+
+    // Act
+    Object firstKey = keyGenerator.generate(this, taskFindByFilter, first);
+    Object secondKey = keyGenerator.generate(this, taskFindByFilter, second);
+
+    // Assert
+    assertInstanceOf(TaskPageKey.class, firstKey);
+    assertEquals(firstKey, secondKey);
+    assertEquals(firstKey.hashCode(), secondKey.hashCode());
+  }
+
+  @Test
+  @DisplayName("Should build different task keys when any filter field differs")
+  void generate_ShouldReturnDifferentKeys_WhenTaskFiltersDiffer() {
+    // Arrange
+    TaskFilterDTO base = new TaskFilterDTO(0, 10, "id", "ASC", Status.TODO, null, 1L);
+    TaskFilterDTO otherProject = new TaskFilterDTO(0, 10, "id", "ASC", Status.TODO, null, 2L);
+    TaskFilterDTO otherStatus = new TaskFilterDTO(0, 10, "id", "ASC", Status.DONE, null, 1L);
+    TaskFilterDTO otherPage = new TaskFilterDTO(1, 10, "id", "ASC", Status.TODO, null, 1L);
+
+    // Act
+    Object key = keyGenerator.generate(this, taskFindByFilter, base);
+
+    // Assert
+    assertNotEquals(key, keyGenerator.generate(this, taskFindByFilter, otherProject));
+    assertNotEquals(key, keyGenerator.generate(this, taskFindByFilter, otherStatus));
+    assertNotEquals(key, keyGenerator.generate(this, taskFindByFilter, otherPage));
+  }
+
+  @Test
+  @DisplayName("Should build project keys from the filter fields")
+  void generate_ShouldReturnProjectPageKey_WhenProjectFilterIsGiven() {
+    // Act
+    Object key =
+        keyGenerator.generate(
+            this, projectFindByFilter, new ProjectFilterDTO(2, 20, "name", "DESC"));
+
+    // Assert
+    assertEquals(new ProjectPageKey(2, 20, "name", "DESC"), key);
+  }
+}
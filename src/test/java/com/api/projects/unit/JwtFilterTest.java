@@ -0,0 +1,153 @@
+package com.api.projects.unit;
+
+import com.api.projects.entities.User;
+import com.api.projects.securities.AuthenticatedUser;
+import com.api.projects.securities.JwtFilter;
+import com.api.projects.securities.Role;
+import com.api.projects.securities.TokenRevocationList;
+import com.api.projects.services.TokenService;
+import com.api.projects.services.UserService;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtFilterTest {
+
+  private static final String SECRET = "test-secret";
+
+  @Mock private UserService userService;
+
+  @Mock private TokenRevocationList tokenRevocationList;
+
+  private TokenService tokenService;
+  private JwtFilter jwtFilter;
+
+  @BeforeEach
+  void setUp() {
+    tokenService =
+        new TokenService(SECRET, Duration.ofMinutes(15), 100, new SimpleMeterRegistry());
+    jwtFilter = new JwtFilter(tokenService, userService, tokenRevocationList);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("Should build the principal from token claims without loading the user")
+  void doFilter_ShouldUseTokenClaims_WhenTokenHasUserClaims() throws Exception {
+    // Arrange
+    User user = User.builder().id(7L).username("admin").role(Role.ROLE_ADMIN).build();
+    MockHttpServletRequest request = requestWithToken(tokenService.generateToken(user));
+
+    // Act
+    jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    // Assert
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    assertEquals(
+        new AuthenticatedUser(7L, "admin", Role.ROLE_ADMIN), authentication.getPrincipal());
+    assertEquals("admin", authentication.getName());
+    assertEquals(
+        "ROLE_ADMIN", authentication.getAuthorities().iterator().next().getAuthority());
+    verifyNoInteractions(userService);
+  }
+
+  @Test
+  @DisplayName("Should load the user when the token was issued without user claims")
+  void doFilter_ShouldLoadUser_WhenTokenHasNoUserClaims() throws Exception {
+    // Arrange
+    String legacyToken =
+        JWT.create()
+            .withSubject("testuser")
+            .withExpiresAt(Instant.now().plusSeconds(60))
+            .sign(Algorithm.HMAC256(SECRET));
+    User user = User.builder().id(1L).username("testuser").role(Role.ROLE_USER).build();
+    when(userService.loadUserByUsername("testuser")).thenReturn(user);
+
+    // Act
+    jwtFilter.doFilter(
+        requestWithToken(legacyToken), new MockHttpServletResponse(), new MockFilterChain());
+
+    // Assert
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    assertEquals(AuthenticatedUser.from(user), authentication.getPrincipal());
+    assertEquals(
+        "ROLE_USER", authentication.getAuthorities().iterator().next().getAuthority());
+    verify(userService, times(1)).loadUserByUsername("testuser");
+  }
+
+  @Test
+  @DisplayName("Should leave the request unauthenticated when the token was revoked")
+  void doFilter_ShouldNotAuthenticate_WhenTokenIsRevoked() throws Exception {
+    // Arrange
+    User user = User.builder().id(7L).username("admin").role(Role.ROLE_ADMIN).build();
+    String token = tokenService.generateToken(user);
+    String tokenId = tokenService.validateToken(token).tokenId();
+    when(tokenRevocationList.isRevoked(tokenId)).thenReturn(true);
+
+    // Act
+    jwtFilter.doFilter(
+        requestWithToken(token), new MockHttpServletResponse(), new MockFilterChain());
+
+    // Assert
+    assertNull(SecurityContextHolder.getContext().getAuthentication());
+  }
+
+  @Test
+  @DisplayName("Should leave the request unauthenticated when the token signature is forged")
+  void doFilter_ShouldNotAuthenticate_WhenTokenIsForged() throws Exception {
+    // Arrange
+    String forged =
+        JWT.create()
+            .withSubject("admin")
+            .withExpiresAt(Instant.now().plusSeconds(60))
+            .sign(Algorithm.HMAC256("other-secret"));
+    MockFilterChain chain = new MockFilterChain();
+
+    // Act
+    jwtFilter.doFilter(requestWithToken(forged), new MockHttpServletResponse(), chain);
+
+    // Assert
+    assertNull(SecurityContextHolder.getContext().getAuthentication());
+    assertNotNull(chain.getRequest());
+    verifyNoInteractions(userService, tokenRevocationList);
+  }
+
+  @Test
+  @DisplayName("Should leave the request unauthenticated when there is no token")
+  void doFilter_ShouldNotAuthenticate_WhenNoToken() throws Exception {
+    // Act
+    jwtFilter.doFilter(
+        new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+    // Assert
+    assertNull(SecurityContextHolder.getContext().getAuthentication());
+    verifyNoInteractions(userService);
+  }
+
+  private MockHttpServletRequest requestWithToken(String token) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/projects");
+    request.addHeader("Authorization", "Bearer " + token);
+    return request;
+  }
+}
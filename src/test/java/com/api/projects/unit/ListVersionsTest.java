@@ -0,0 +1,77 @@
+package com.api.projects.unit;
+
+import com.api.projects.caches.ListVersions;
+import com.api.projects.caches.ProjectPageKey;
+import com.api.projects.caches.TaskDimensions;
+import com.api.projects.caches.TaskPageKey;
+import com.api.projects.enums.Priority;
+import com.api.projects.enums.Status;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListVersionsTest {
+
+  private static final TaskPageKey PROJECT_1_PAGE =
+      new TaskPageKey(0, 10, "id", "ASC", null, null, 1L);
+  private static final TaskPageKey PROJECT_2_PAGE =
+      new TaskPageKey(0, 10, "id", "ASC", null, null, 2L);
+  private static final TaskPageKey ALL_TASKS_PAGE =
+      new TaskPageKey(0, 10, "id", "ASC", null, null, null);
+  private static final ProjectPageKey PROJECTS_PAGE = new ProjectPageKey(0, 10, "id", "ASC");
+
+  private final ListVersions listVersions = new ListVersions();
+
+  @Test
+  @DisplayName("Should keep list ETags stable while nothing changes")
+  void etags_ShouldBeStable_WhenNothingChanges() {
+    // Assert
+    assertEquals(listVersions.tasksETag(PROJECT_1_PAGE), listVersions.tasksETag(PROJECT_1_PAGE));
+    assertEquals(listVersions.projectsETag(PROJECTS_PAGE), listVersions.projectsETag(PROJECTS_PAGE));
+    assertTrue(listVersions.tasksETag(PROJECT_1_PAGE).startsWith("W/\""));
+  }
+
+  @Test
+  @DisplayName("Should change only the pages of the project whose tasks changed")
+  void tasksChanged_ShouldChangeProjectAndTablePages_WhenTaskOfProjectChanges() {
+    // Arrange
+    String project1 = listVersions.tasksETag(PROJECT_1_PAGE);
+    String project2 = listVersions.tasksETag(PROJECT_2_PAGE);
+    String allTasks = listVersions.tasksETag(ALL_TASKS_PAGE);
+    String projects = listVersions.projectsETag(PROJECTS_PAGE);
+
+    // Act
+    listVersions.tasksChanged(new TaskDimensions(1L, Status.TODO, Priority.LOW), null);
+
+    // Assert
+    assertNotEquals(project1, listVersions.tasksETag(PROJECT_1_PAGE));
+    assertNotEquals(allTasks, listVersions.tasksETag(ALL_TASKS_PAGE));
+    assertEquals(project2, listVersions.tasksETag(PROJECT_2_PAGE));
+    assertEquals(projects, listVersions.projectsETag(PROJECTS_PAGE));
+  }
+
+  @Test
+  @DisplayName("Should never reuse a version when all per-project versions are reset")
+  void tasksChanged_ShouldChangeEveryTaskPage_WhenAllProjectsChange() {
+    // Arrange
+    listVersions.tasksChanged(2L);
+    String project1 = listVersions.tasksETag(PROJECT_1_PAGE);
+    String project2 = listVersions.tasksETag(PROJECT_2_PAGE);
+
+    // Act
+    listVersions.tasksChanged((Long) null);
+
+    // Assert
+    assertNotEquals(project1, listVersions.tasksETag(PROJECT_1_PAGE));
+    assertNotEquals(project2, listVersions.tasksETag(PROJECT_2_PAGE));
+  }
+
+  @Test
+  @DisplayName("Should not match ETags issued by another node or a previous run")
+  void etags_ShouldDiffer_WhenIssuedByAnotherInstance() {
+    // Assert
+    assertNotEquals(
+        listVersions.projectsETag(PROJECTS_PAGE), new ListVersions().projectsETag(PROJECTS_PAGE));
+  }
+}
@@ -1,5 +1,6 @@
 package com.api.projects.unit;
 
+import com.api.projects.caches.MissingKeyCache;
 import com.api.projects.dtos.pagination.PageResponseDTO;
 import com.api.projects.dtos.project.ProjectFilterDTO;
 import com.api.projects.dtos.project.ProjectRequestDTO;
@@ -8,6 +9,7 @@ import com.api.projects.dtos.project.ProjectUpdateRequestDTO;
 import com.api.projects.entities.Project;
 import com.api.projects.entities.User;
 import com.api.projects.mappers.ProjectMapper;
+import com.api.projects.exceptions.NotFoundException;
 import com.api.projects.repositories.ProjectRepository;
 import com.api.projects.repositories.UserRepository;
 import com.api.projects.services.ProjectService;
@@ -31,6 +33,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +45,8 @@ class ProjectServiceTest {
 
   @Mock private ProjectMapper projectMapper;
 
+  @Mock private MissingKeyCache missingKeyCache;
+
   @InjectMocks private ProjectService projectService;
 
   private ProjectRequestDTO projectRequestDTO;
@@ -84,6 +89,7 @@ class ProjectServiceTest {
     verify(projectMapper, times(1)).toEntity(projectRequestDTO);
     verify(projectRepository, times(1)).save(project);
     verify(projectMapper, times(1)).toResponse(savedProject);
+    verify(missingKeyCache, times(1)).clear("project", savedProject.getId());
   }
 
   @Test
@@ -204,6 +210,20 @@ class ProjectServiceTest {
 
     verify(projectRepository, times(1)).findById(projectId);
     verify(projectMapper, never()).toResponse(any(Project.class));
+    verify(missingKeyCache, times(1)).markMissing("project", projectId);
+  }
+
+  @Test
+  @DisplayName("Should not query the database when the project id is known to be missing")
+  void findById_ShouldThrowWithoutQuery_WhenProjectIsKnownMissing() {
+    // Arrange
+    Long projectId = 1L;
+    when(missingKeyCache.isMissing("project", projectId)).thenReturn(true);
+
+    // Act & Assert
+    assertThrows(NotFoundException.class, () -> projectService.findById(projectId));
+
+    verify(projectRepository, never()).findById(anyLong());
   }
 
   @Test
@@ -0,0 +1,107 @@
+package com.api.projects.unit;
+
+import com.api.projects.configs.RateLimitConfig;
+import com.api.projects.configs.RateLimitPolicy;
+import com.api.projects.configs.RateLimitProperties;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class RateLimitConfigTest {
+
+  private static final long MAX_CLIENTS = 1_000;
+  private static final int DISTINCT_CLIENTS = 10_000;
+  private static final RateLimitPolicy POLICY =
+      RateLimitPolicy.of("default", List.of(), List.of(), 5, 60);
+
+  private SimpleMeterRegistry meterRegistry;
+  private RateLimitConfig rateLimitConfig;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    RateLimitProperties properties = new RateLimitProperties();
+    properties.setMaxClients(MAX_CLIENTS);
+    meterRegistry = new SimpleMeterRegistry();
+    rateLimitConfig = new RateLimitConfig(properties, meterRegistry, mock(ObjectProvider.class));
+  }
+
+  @Test
+  @DisplayName("Should return the same bucket for the same client")
+  void resolveBucket_ShouldReuseBucket_WhenSameKey() {
+    // Arrange
+    Bucket bucket = rateLimitConfig.resolveBucket("198.51.100.7", POLICY);
+    bucket.tryConsume(5);
+
+    // Act & Assert
+    assertSame(bucket, rateLimitConfig.resolveBucket("198.51.100.7", POLICY));
+    assertFalse(rateLimitConfig.resolveBucket("198.51.100.7", POLICY).tryConsume(1));
+  }
+
+  @Test
+  @DisplayName("Should keep consumed tokens when a reload changes the policy bandwidth")
+  void resolveBucket_ShouldReconfigureInPlace_WhenPolicyChanges() {
+    // Arrange
+    rateLimitConfig.resolveBucket("198.51.100.7", POLICY).tryConsume(4);
+    RateLimitPolicy reloaded = RateLimitPolicy.of("default", List.of(), List.of(), 20, 60);
+
+    // Act
+    Bucket bucket = rateLimitConfig.resolveBucket("198.51.100.7", reloaded);
+
+    // Assert
+    assertEquals(1, bucket.getAvailableTokens());
+    assertEquals(
+        20,
+        bucket.asVerbose().getAvailableTokens().getConfiguration().getBandwidths()[0].getCapacity());
+  }
+
+  @Test
+  @DisplayName("Should keep separate buckets per policy for the same client")
+  void resolveBucket_ShouldIsolatePolicies_WhenSameClient() {
+    // Arrange
+    RateLimitPolicy login = RateLimitPolicy.of("login", List.of(), List.of(), 1, 60);
+    rateLimitConfig.resolveBucket("user:alice", login).tryConsume(1);
+
+    // Act & Assert
+    assertFalse(rateLimitConfig.resolveBucket("user:alice", login).tryConsume(1));
+    assertTrue(rateLimitConfig.resolveBucket("user:alice", POLICY).tryConsume(1));
+  }
+
+  // The heap under millions of keys is checked by benchmarks.RateLimitBucketStoreStress
+  @Test
+  @DisplayName("Should stay within max-clients when many distinct clients are seen")
+  void resolveBucket_ShouldStayBounded_WhenKeysAreUnbounded() throws InterruptedException {
+    // Act
+    for (int i = 0; i < DISTINCT_CLIENTS; i++) {
+      rateLimitConfig.resolveBucket(key(i), POLICY).tryConsume(1);
+    }
+
+    // Assert
+    awaitEvictions();
+    assertTrue(meterRegistry.get("cache.size").gauge().value() <= MAX_CLIENTS);
+    assertTrue(
+        meterRegistry.get("cache.evictions").tag("cause", "SIZE").summary().count()
+            >= DISTINCT_CLIENTS - MAX_CLIENTS);
+  }
+
+  // Caffeine applies evictions on a background executor
+  private void awaitEvictions() throws InterruptedException {
+    long deadline = System.nanoTime() + 10_000_000_000L;
+    while (meterRegistry.get("cache.size").gauge().value() > MAX_CLIENTS
+        && System.nanoTime() < deadline) {
+      rateLimitConfig.resolveBucket(key(0), POLICY);
+      Thread.sleep(50);
+    }
+  }
+
+  private static String key(int i) {
+    return "10." + (i >>> 16 & 0xff) + "." + (i >>> 8 & 0xff) + "." + (i & 0xff) + "#" + i;
+  }
+}
@@ -0,0 +1,89 @@
+package com.api.projects.unit;
+
+import com.api.projects.configs.RateLimitPolicies;
+import com.api.projects.configs.RateLimitPolicy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitPoliciesTest {
+
+  @TempDir Path tempDir;
+
+  private MockEnvironment environment;
+  private RateLimitPolicies rateLimitPolicies;
+
+  @BeforeEach
+  void setUp() {
+    environment =
+        new MockEnvironment()
+            .withProperty("rate-limit.requests", "10")
+            .withProperty("rate-limit.duration", "60")
+            .withProperty("rate-limit.policies[0].name", "login")
+            .withProperty("rate-limit.policies[0].methods", "POST")
+            .withProperty("rate-limit.policies[0].paths", "/api/v1/auth/login, /api/v1/auth/refresh")
+            .withProperty("rate-limit.policies[0].requests", "5")
+            .withProperty("rate-limit.policies[1].name", "reads")
+            .withProperty("rate-limit.policies[1].methods", "get")
+            .withProperty("rate-limit.policies[1].requests", "100");
+    rateLimitPolicies = new RateLimitPolicies(environment, new DefaultResourceLoader());
+    rateLimitPolicies.reload();
+  }
+
+  @Test
+  @DisplayName("Should pick the first policy matching method and path")
+  void resolve_ShouldMatchPolicy_WhenMethodAndPathMatch() {
+    // Act & Assert
+    assertEquals("login", resolve("POST", "/api/v1/auth/refresh").name());
+    assertEquals(5, resolve("POST", "/api/v1/auth/login").requests());
+    assertEquals("reads", resolve("GET", "/api/v1/projects").name());
+  }
+
+  @Test
+  @DisplayName("Should fall back to the default policy when nothing matches")
+  void resolve_ShouldReturnDefault_WhenNoPolicyMatches() {
+    // Act
+    RateLimitPolicy policy = resolve("POST", "/api/v1/projects");
+
+    // Assert
+    assertEquals(RateLimitPolicy.DEFAULT_NAME, policy.name());
+    assertEquals(10, policy.requests());
+  }
+
+  @Test
+  @DisplayName("Should apply policies from the external file on reload")
+  void reload_ShouldPreferPoliciesFile_WhenLocationIsConfigured() throws Exception {
+    // Arrange
+    Path file = tempDir.resolve("rate-limits.yml");
+    Files.writeString(
+        file,
+        """
+        rate-limit:
+          policies:
+            - name: reads
+              methods: GET
+              requests: 7
+        """);
+    environment.setProperty("rate-limit.policies-location", file.toUri().toString());
+
+    // Act
+    rateLimitPolicies.reload();
+
+    // Assert
+    assertEquals(7, resolve("GET", "/api/v1/projects").requests());
+    assertEquals(RateLimitPolicy.DEFAULT_NAME, resolve("POST", "/api/v1/auth/login").name());
+    assertEquals(2, rateLimitPolicies.getPolicies().size());
+  }
+
+  private RateLimitPolicy resolve(String method, String path) {
+    return rateLimitPolicies.resolve(new MockHttpServletRequest(method, path));
+  }
+}
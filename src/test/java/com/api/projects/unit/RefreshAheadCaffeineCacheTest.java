@@ -0,0 +1,118 @@
+package com.api.projects.unit;
+
+import com.api.projects.caches.RefreshAheadCaffeineCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RefreshAheadCaffeineCacheTest {
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final AtomicInteger loads = new AtomicInteger();
+  private final Queue<Runnable> refreshes = new ArrayDeque<>();
+
+  private final RefreshAheadCaffeineCache cache =
+      new RefreshAheadCaffeineCache(
+          "project",
+          Caffeine.newBuilder()
+              .ticker(nanos::get)
+              .executor(refreshes::add)
+              .refreshAfterWrite(Duration.ofMinutes(5))
+              .build(key -> "loaded-" + loads.incrementAndGet()),
+          true);
+
+  @Test
+  @DisplayName("Should not load through the loader on a plain lookup miss")
+  void get_ShouldReturnNull_WhenKeyIsMissing() {
+    // Act & Assert
+    assertNull(cache.get(1L));
+    assertEquals(0, loads.get());
+  }
+
+  @Test
+  @DisplayName("Should serve the old value and refresh it once it is due")
+  void get_ShouldRefreshInBackground_WhenEntryIsDue() {
+    // Arrange
+    cache.put(1L, "initial");
+    nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+
+    // Act
+    Object served = cache.get(1L).get();
+
+    // Assert
+    assertEquals("initial", served);
+    while (!refreshes.isEmpty()) {
+      refreshes.poll().run();
+    }
+    assertEquals("loaded-1", cache.get(1L).get());
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  @DisplayName("Should load a missing key only once for concurrent callers")
+  void get_ShouldCoalesceMisses_WhenLoadingWithValueLoader() throws Exception {
+    // Arrange
+    int callers = 8;
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch arrived = new CountDownLatch(callers);
+    CountDownLatch release = new CountDownLatch(1);
+    List<Object> results = new CopyOnWriteArrayList<>();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < callers; i++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                try {
+                  start.await();
+                  arrived.countDown();
+                  results.add(
+                      cache.get(
+                          2L,
+                          () -> {
+                            release.await();
+                            return "db-" + loads.incrementAndGet();
+                          }));
+                } catch (InterruptedException ex) {
+                  Thread.currentThread().interrupt();
+                }
+              });
+      thread.start();
+      threads.add(thread);
+    }
+
+    // Act
+    start.countDown();
+    arrived.await();
+    // Hold the load until every caller is parked behind it or on the loader itself
+    while (!threads.stream().allMatch(RefreshAheadCaffeineCacheTest::isParked)) {
+      Thread.onSpinWait();
+    }
+    release.countDown();
+    for (Thread thread : threads) {
+      thread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    // Assert
+    assertEquals(1, loads.get());
+    assertEquals(callers, results.size());
+    assertTrue(results.stream().allMatch("db-1"::equals));
+  }
+
+  private static boolean isParked(Thread thread) {
+    Thread.State state = thread.getState();
+    return state == Thread.State.BLOCKED || state == Thread.State.WAITING;
+  }
+}
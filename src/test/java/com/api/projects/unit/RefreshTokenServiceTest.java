@@ -0,0 +1,122 @@
+package com.api.projects.unit;
+
+import com.api.projects.entities.RefreshToken;
+import com.api.projects.entities.User;
+import com.api.projects.repositories.RefreshTokenRepository;
+import com.api.projects.securities.Role;
+import com.api.projects.services.RefreshTokenService;
+import com.api.projects.services.RefreshTokenService.Rotation;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+  @Mock private RefreshTokenRepository refreshTokenRepository;
+
+  private RefreshTokenService refreshTokenService;
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    refreshTokenService = new RefreshTokenService(refreshTokenRepository, Duration.ofDays(7));
+    user = User.builder().id(1L).username("testuser").role(Role.ROLE_USER).build();
+  }
+
+  @Test
+  @DisplayName("Should store only a hash of the issued refresh token")
+  void issue_ShouldStoreHash_WhenTokenIsIssued() {
+    // Act
+    String token = refreshTokenService.issue(user);
+
+    // Assert
+    ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+    verify(refreshTokenRepository).save(captor.capture());
+    assertNotEquals(token, captor.getValue().getTokenHash());
+    assertEquals(64, captor.getValue().getTokenHash().length());
+    assertEquals(user, captor.getValue().getUser());
+    assertTrue(captor.getValue().getExpiresAt().isAfter(LocalDateTime.now().plusDays(6)));
+  }
+
+  @Test
+  @DisplayName("Should revoke the used token and issue a new one when rotating")
+  void rotate_ShouldIssueNewToken_WhenTokenIsActive() {
+    // Arrange
+    RefreshToken stored = storedToken(false, LocalDateTime.now().plusDays(1));
+    when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(stored));
+    when(refreshTokenRepository.revokeIfActive(10L)).thenReturn(1);
+
+    // Act
+    Rotation rotation = refreshTokenService.rotate("current-token");
+
+    // Assert
+    verify(refreshTokenRepository, times(1)).revokeIfActive(10L);
+    assertEquals(user, rotation.user());
+    assertNotEquals("current-token", rotation.refreshToken());
+    verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+  }
+
+  @Test
+  @DisplayName("Should revoke every token of the user when a used token is presented again")
+  void rotate_ShouldRevokeAllUserTokens_WhenTokenWasAlreadyUsed() {
+    // Arrange
+    RefreshToken stored = storedToken(true, LocalDateTime.now().plusDays(1));
+    when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(stored));
+
+    // Act & Assert
+    assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate("reused"));
+    verify(refreshTokenRepository, times(1)).revokeAllByUser(user);
+    verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+  }
+
+  @Test
+  @DisplayName("Should handle a token revoked by a concurrent rotation as reuse")
+  void rotate_ShouldRevokeAllUserTokens_WhenConcurrentRotationWon() {
+    // Arrange
+    RefreshToken stored = storedToken(false, LocalDateTime.now().plusDays(1));
+    when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(stored));
+    when(refreshTokenRepository.revokeIfActive(10L)).thenReturn(0);
+
+    // Act & Assert
+    assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate("raced"));
+    verify(refreshTokenRepository, times(1)).revokeAllByUser(user);
+    verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+  }
+
+  @Test
+  @DisplayName("Should reject an expired refresh token")
+  void rotate_ShouldThrowBadCredentialsException_WhenTokenExpired() {
+    // Arrange
+    RefreshToken stored = storedToken(false, LocalDateTime.now().minusMinutes(1));
+    when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(stored));
+
+    // Act & Assert
+    assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate("expired"));
+    verify(refreshTokenRepository, never()).revokeAllByUser(any());
+  }
+
+  private RefreshToken storedToken(boolean revoked, LocalDateTime expiresAt) {
+    return RefreshToken.builder()
+        .id(10L)
+        .tokenHash("hash")
+        .user(user)
+        .revoked(revoked)
+        .createdAt(LocalDateTime.now().minusDays(1))
+        .expiresAt(expiresAt)
+        .build();
+  }
+}
@@ -0,0 +1,113 @@
+package com.api.projects.unit;
+
+import com.api.projects.caches.RenderedJsonCache;
+import com.api.projects.caches.RenderedJsonHttpMessageConverter;
+import com.api.projects.configs.CacheProperties;
+import com.api.projects.dtos.task.TaskResponseDTO;
+import com.api.projects.unit.mocks.TaskMock;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RenderedJsonHttpMessageConverterTest {
+
+  private ObjectMapper objectMapper;
+  private CacheProperties.RenderedJson properties;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = spy(new ObjectMapper().findAndRegisterModules());
+    properties = new CacheProperties.RenderedJson();
+    properties.setEnabled(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  @DisplayName("Should serialize a cached response instance only once")
+  void write_ShouldReuseRenderedBytes_WhenSameInstanceIsWrittenTwice() throws Exception {
+    // Arrange
+    RenderedJsonHttpMessageConverter converter = converter();
+    TaskResponseDTO task = TaskMock.createTaskResponseDTO();
+    MockHttpOutputMessage first = new MockHttpOutputMessage();
+    MockHttpOutputMessage second = new MockHttpOutputMessage();
+
+    // Act
+    converter.write(task, MediaType.APPLICATION_JSON, first);
+    converter.write(task, MediaType.APPLICATION_JSON, second);
+
+    // Assert
+    verify(objectMapper, times(1)).writeValueAsBytes(task);
+    assertArrayEquals(first.getBodyAsBytes(), second.getBodyAsBytes());
+    assertEquals(
+        objectMapper.readTree(objectMapper.writeValueAsString(task)),
+        objectMapper.readTree(first.getBodyAsBytes()));
+  }
+
+  @Test
+  @DisplayName("Should render again when the cache holds a new instance")
+  void write_ShouldRenderAgain_WhenInstanceWasReplaced() throws Exception {
+    // Arrange
+    RenderedJsonHttpMessageConverter converter = converter();
+    TaskResponseDTO cached = TaskMock.createTaskResponseDTO();
+    TaskResponseDTO replaced = cached.toBuilder().title("Renamed").build();
+    MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+    // Act
+    converter.write(cached, MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+    converter.write(replaced, MediaType.APPLICATION_JSON, output);
+
+    // Assert
+    verify(objectMapper, times(1)).writeValueAsBytes(cached);
+    verify(objectMapper, times(1)).writeValueAsBytes(replaced);
+    assertTrue(output.getBodyAsString().contains("Renamed"));
+  }
+
+  @Test
+  @DisplayName("Should send gzipped bytes when the client accepts gzip")
+  void write_ShouldSendGzippedBody_WhenClientAcceptsGzip() throws Exception {
+    // Arrange
+    properties.setGzip(true);
+    properties.setGzipMinSize(DataSize.ofBytes(0));
+    RenderedJsonHttpMessageConverter converter = converter();
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    TaskResponseDTO task = TaskMock.createTaskResponseDTO();
+    MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+    // Act
+    converter.write(task, MediaType.APPLICATION_JSON, output);
+
+    // Assert
+    assertEquals("gzip", output.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    assertEquals(HttpHeaders.ACCEPT_ENCODING, output.getHeaders().getFirst(HttpHeaders.VARY));
+    try (GZIPInputStream gzip =
+        new GZIPInputStream(new ByteArrayInputStream(output.getBodyAsBytes()))) {
+      assertEquals(
+          objectMapper.readTree(objectMapper.writeValueAsString(task)), objectMapper.readTree(gzip));
+    }
+  }
+
+  private RenderedJsonHttpMessageConverter converter() {
+    return new RenderedJsonHttpMessageConverter(new RenderedJsonCache(objectMapper, properties));
+  }
+}
@@ -0,0 +1,118 @@
+package com.api.projects.unit;
+
+import com.api.projects.configs.AsyncConfig;
+import com.api.projects.configs.ClientIpResolver;
+import com.api.projects.configs.RequestIdFilter;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestIdFilterTest {
+
+  @Mock private ClientIpResolver clientIpResolver;
+
+  private RequestIdFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    filter = new RequestIdFilter(clientIpResolver);
+  }
+
+  @AfterEach
+  void tearDown() {
+    MDC.clear();
+  }
+
+  @Test
+  @DisplayName("Should generate a time-ordered id and echo it when none is sent")
+  void doFilter_ShouldGenerateId_WhenHeaderIsMissing() throws Exception {
+    // Arrange
+    when(clientIpResolver.resolve(any())).thenReturn("10.0.0.1");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    AtomicReference<String> logged = new AtomicReference<>();
+    AtomicReference<String> ip = new AtomicReference<>();
+
+    // Act
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/api/v1/projects"),
+        response,
+        (req, res) -> {
+          logged.set(MDC.get(RequestIdFilter.REQUEST_ID_KEY));
+          ip.set(MDC.get(RequestIdFilter.CLIENT_IP_KEY));
+        });
+
+    // Assert
+    String requestId = response.getHeader(RequestIdFilter.REQUEST_ID_HEADER);
+    assertEquals(7, UUID.fromString(requestId).version());
+    assertEquals(requestId, logged.get());
+    assertEquals("10.0.0.1", ip.get());
+    assertNull(MDC.get(RequestIdFilter.REQUEST_ID_KEY));
+    assertNull(MDC.get(RequestIdFilter.CLIENT_IP_KEY));
+  }
+
+  @Test
+  @DisplayName("Should keep a well-formed incoming request id")
+  void doFilter_ShouldHonourId_WhenHeaderIsValid() throws Exception {
+    // Arrange
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/projects");
+    request.addHeader(RequestIdFilter.REQUEST_ID_HEADER, "upstream-123");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // Act
+    filter.doFilter(request, response, (req, res) -> {});
+
+    // Assert
+    assertEquals("upstream-123", response.getHeader(RequestIdFilter.REQUEST_ID_HEADER));
+  }
+
+  @Test
+  @DisplayName("Should replace an incoming request id that is malformed")
+  void doFilter_ShouldReplaceId_WhenHeaderIsMalformed() throws Exception {
+    // Arrange
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/projects");
+    request.addHeader(RequestIdFilter.REQUEST_ID_HEADER, "forged\nINFO admin logged in");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // Act
+    filter.doFilter(request, response, (req, res) -> {});
+
+    // Assert
+    String requestId = response.getHeader(RequestIdFilter.REQUEST_ID_HEADER);
+    assertEquals(7, UUID.fromString(requestId).version());
+  }
+
+  @Test
+  @DisplayName("Should run decorated tasks with the submitting thread's MDC")
+  void mdcTaskDecorator_ShouldPropagateContext_WhenTaskRunsElsewhere() throws Exception {
+    // Arrange
+    MDC.put(RequestIdFilter.REQUEST_ID_KEY, "request-1");
+    AtomicReference<String> seen = new AtomicReference<>();
+    Runnable task =
+        new AsyncConfig()
+            .mdcTaskDecorator()
+            .decorate(() -> seen.set(MDC.get(RequestIdFilter.REQUEST_ID_KEY)));
+    MDC.clear();
+
+    // Act
+    Thread worker = new Thread(task);
+    worker.start();
+    worker.join();
+
+    // Assert
+    assertEquals("request-1", seen.get());
+  }
+}
@@ -0,0 +1,100 @@
+package com.api.projects.unit;
+
+import com.api.projects.caches.MissingKeyCache;
+import com.api.projects.caches.ResourceETagResolver;
+import com.api.projects.dtos.task.TaskResponseDTO;
+import com.api.projects.repositories.ProjectRepository;
+import com.api.projects.repositories.TaskRepository;
+import com.api.projects.unit.mocks.TaskMock;
+import com.api.projects.utils.ETags;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceETagResolverTest {
+
+  @Mock private MissingKeyCache missingKeyCache;
+
+  @Mock private ProjectRepository projectRepository;
+
+  @Mock private TaskRepository taskRepository;
+
+  private ConcurrentMapCacheManager cacheManager;
+  private ResourceETagResolver resolver;
+
+  @BeforeEach
+  void setUp() {
+    cacheManager = new ConcurrentMapCacheManager("project", "task");
+    resolver =
+        new ResourceETagResolver(cacheManager, missingKeyCache, projectRepository, taskRepository);
+  }
+
+  @Test
+  @DisplayName("Should resolve the ETag from the cached task without querying the database")
+  void currentTaskETag_ShouldUseCachedResponse_WhenTaskIsCached() {
+    // Arrange
+    TaskResponseDTO task = TaskMock.createTaskResponseDTO();
+    cacheManager.getCache("task").put(task.getId(), task);
+
+    // Act
+    Optional<String> etag = resolver.currentTaskETag(task.getId());
+
+    // Assert
+    assertEquals(Optional.of(resolver.taskETag(task)), etag);
+    verify(taskRepository, never()).findVersionById(anyLong());
+  }
+
+  @Test
+  @DisplayName("Should build the same ETag from the version query as from the response")
+  void currentProjectETag_ShouldMatchResponseETag_WhenLoadedFromVersionQuery() {
+    // Arrange
+    LocalDateTime updatedAt = LocalDateTime.parse("2025-01-10T10:15:30.123456");
+    when(projectRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(updatedAt));
+
+    // Act
+    Optional<String> etag = resolver.currentProjectETag(1L);
+
+    // Assert
+    assertEquals(Optional.of(ETags.of(1L, updatedAt.withNano(123_000_000))), etag);
+  }
+
+  @Test
+  @DisplayName("Should change the task ETag when its project changes")
+  void taskETag_ShouldChange_WhenEmbeddedProjectIsUpdated() {
+    // Arrange
+    TaskResponseDTO task = TaskMock.createTaskResponseDTO();
+    String before = resolver.taskETag(task);
+
+    // Act
+    task.getProject().setUpdatedAt(LocalDateTime.parse("2025-01-10T10:15:30"));
+
+    // Assert
+    assertNotEquals(before, resolver.taskETag(task));
+  }
+
+  @Test
+  @DisplayName("Should match If-None-Match lists, weak validators and wildcards")
+  void matches_ShouldFollowIfNoneMatchRules() {
+    // Arrange
+    String etag = ETags.of(10L, LocalDateTime.parse("2025-01-10T10:15:30"));
+
+    // Act & Assert
+    assertTrue(ETags.matches(etag, etag));
+    assertTrue(ETags.matches("\"other\", W/" + etag, etag));
+    assertTrue(ETags.matches("*", etag));
+    assertFalse(ETags.matches("\"other\"", etag));
+    assertFalse(ETags.matches(null, etag));
+  }
+}
@@ -0,0 +1,61 @@
+package com.api.projects.unit;
+
+import com.api.projects.caches.CacheInvalidationMessage;
+import com.api.projects.caches.SmileCacheSerializer;
+import com.api.projects.caches.TaskDimensions;
+import com.api.projects.caches.TaskPageKey;
+import com.api.projects.dtos.pagination.PageResponseDTO;
+import com.api.projects.dtos.task.TaskResponseDTO;
+import com.api.projects.enums.Priority;
+import com.api.projects.enums.Status;
+import com.api.projects.unit.mocks.TaskMock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SmileCacheSerializerTest {
+
+  private final SmileCacheSerializer serializer = new SmileCacheSerializer();
+
+  @Test
+  @DisplayName("Should round-trip a cached page of tasks")
+  void serialize_ShouldRoundTripPageOfTasks() {
+    // Arrange
+    TaskResponseDTO task = TaskMock.createTaskResponseDTO();
+    PageResponseDTO<TaskResponseDTO> page =
+        PageResponseDTO.of(new PageImpl<>(List.of(task), PageRequest.of(0, 10), 1));
+
+    // Act
+    Object result = serializer.deserialize(serializer.serialize(page));
+
+    // Assert
+    assertEquals(page, result);
+  }
+
+  @Test
+  @DisplayName("Should round-trip invalidation messages with typed keys")
+  void serialize_ShouldRoundTripInvalidationMessages() {
+    // Arrange
+    TaskPageKey key = new TaskPageKey(0, 10, "id", "ASC", Status.TODO, null, 1L);
+    CacheInvalidationMessage evict = CacheInvalidationMessage.evict("node-1", "tasks", key);
+    CacheInvalidationMessage evictById = CacheInvalidationMessage.evict("node-1", "task", 10L);
+    CacheInvalidationMessage evictTasks =
+        CacheInvalidationMessage.evictTasks(
+            "node-1", "tasks", List.of(new TaskDimensions(1L, Status.DONE, Priority.HIGH)));
+    CacheInvalidationMessage revokeToken =
+        CacheInvalidationMessage.revokeToken(
+            "node-1", "token-id", Instant.parse("2026-01-01T00:15:00Z"));
+
+    // Act & Assert
+    assertEquals(evict, serializer.deserialize(serializer.serialize(evict)));
+    assertEquals(evictById, serializer.deserialize(serializer.serialize(evictById)));
+    assertEquals(evictTasks, serializer.deserialize(serializer.serialize(evictTasks)));
+    assertEquals(revokeToken, serializer.deserialize(serializer.serialize(revokeToken)));
+  }
+}
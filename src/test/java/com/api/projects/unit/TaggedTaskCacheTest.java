@@ -0,0 +1,213 @@
+package com.api.projects.unit;
+
+import com.api.projects.caches.CacheInvalidationBus;
+import com.api.projects.caches.TaggedTaskCache;
+import com.api.projects.caches.TaskCacheTags;
+import com.api.projects.caches.TaskDimensions;
+import com.api.projects.caches.TaskPageKey;
+import com.api.projects.caches.TwoLevelCache;
+import com.api.projects.enums.Priority;
+import com.api.projects.enums.Status;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaggedTaskCacheTest {
+
+  private static final TaskPageKey PROJECT_1_TODO =
+      new TaskPageKey(0, 10, "id", "ASC", Status.TODO, null, 1L);
+  private static final TaskPageKey PROJECT_1_DONE =
+      new TaskPageKey(0, 10, "id", "ASC", Status.DONE, null, 1L);
+  private static final TaskPageKey PROJECT_2_ALL =
+      new TaskPageKey(0, 10, "id", "ASC", null, null, 2L);
+  private static final TaskPageKey ALL_HIGH =
+      new TaskPageKey(0, 10, "id", "ASC", null, Priority.HIGH, null);
+
+  private TaskCacheTags tags;
+  private TaggedTaskCache cache;
+
+  @BeforeEach
+  void setUp() {
+    tags = new TaskCacheTags();
+    cache = new TaggedTaskCache(new ConcurrentMapCache("tasks"), tags);
+    cache.put(PROJECT_1_TODO, "p1-todo");
+    cache.put(PROJECT_1_DONE, "p1-done");
+    cache.put(PROJECT_2_ALL, "p2-all");
+    cache.put(ALL_HIGH, "all-high");
+  }
+
+  @Test
+  @DisplayName("Should evict only pages matching the task before and after a status change")
+  void evictMatching_ShouldEvictOnlyAffectedPages_WhenStatusChanges() {
+    // Act
+    cache.evictMatching(
+        new TaskDimensions(1L, Status.TODO, Priority.LOW),
+        new TaskDimensions(1L, Status.DONE, Priority.LOW));
+
+    // Assert
+    assertNull(cache.get(PROJECT_1_TODO));
+    assertNull(cache.get(PROJECT_1_DONE));
+    assertNotNull(cache.get(PROJECT_2_ALL));
+    assertNotNull(cache.get(ALL_HIGH));
+  }
+
+  @Test
+  @DisplayName("Should evict wildcard project pages when the task matches their other tags")
+  void evictMatching_ShouldEvictWildcardPages_WhenPriorityMatches() {
+    // Act
+    cache.evictMatching(new TaskDimensions(3L, Status.TODO, Priority.HIGH), null);
+
+    // Assert
+    assertNull(cache.get(ALL_HIGH));
+    assertNotNull(cache.get(PROJECT_1_TODO));
+    assertNotNull(cache.get(PROJECT_2_ALL));
+  }
+
+  @Test
+  @DisplayName("Should clear both tiers on a local write without broadcasting each page")
+  void evictMatching_ShouldEvictBothTiersWithoutPerKeyMessages_WhenTiered() {
+    // Arrange
+    ConcurrentMapCache local = new ConcurrentMapCache("tasks");
+    ConcurrentMapCache remote = new ConcurrentMapCache("tasks");
+    CacheInvalidationBus bus = mock(CacheInvalidationBus.class);
+    TaggedTaskCache tiered =
+        new TaggedTaskCache(new TwoLevelCache(local, remote, bus), new TaskCacheTags());
+    tiered.put(PROJECT_1_TODO, "p1-todo");
+    clearInvocations(bus);
+
+    // Act
+    tiered.evictMatching(new TaskDimensions(1L, Status.TODO, Priority.LOW));
+
+    // Assert
+    assertNull(local.get(PROJECT_1_TODO));
+    assertNull(remote.get(PROJECT_1_TODO));
+    verifyNoInteractions(bus);
+  }
+
+  @Test
+  @DisplayName("Should only clear the local tier when applying another node's write")
+  void evictMatchingLocal_ShouldLeaveSharedTier_WhenWriteCameFromAnotherNode() {
+    // Arrange
+    ConcurrentMapCache local = new ConcurrentMapCache("tasks");
+    ConcurrentMapCache remote = new ConcurrentMapCache("tasks");
+    CacheInvalidationBus bus = mock(CacheInvalidationBus.class);
+    TaskCacheTags tieredTags = new TaskCacheTags();
+    TaggedTaskCache tiered = new TaggedTaskCache(new TwoLevelCache(local, remote, bus), tieredTags);
+    tiered.put(PROJECT_1_TODO, "p1-todo");
+    clearInvocations(bus);
+    TaskDimensions task = new TaskDimensions(1L, Status.TODO, Priority.LOW);
+
+    // Act
+    tiered.evictMatchingLocal(task);
+
+    // Assert
+    assertNull(local.get(PROJECT_1_TODO));
+    assertNotNull(remote.get(PROJECT_1_TODO));
+    assertTrue(tieredTags.matching(task).isEmpty());
+    verifyNoInteractions(bus);
+  }
+
+  @Test
+  @DisplayName("Should not keep a page whose load overlapped a task write")
+  void get_ShouldEvictLoadedPage_WhenTaskWriteHappensDuringLoad() throws Exception {
+    // Arrange
+    TaggedTaskCache caffeineCache =
+        new TaggedTaskCache(
+            new CaffeineCache("tasks", Caffeine.newBuilder().build()), new TaskCacheTags());
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch written = new CountDownLatch(1);
+    Thread reader =
+        new Thread(
+            () ->
+                caffeineCache.get(
+                    PROJECT_1_TODO,
+                    () -> {
+                      loading.countDown();
+                      // The page is computed from rows read before the write commits
+                      written.await(100, TimeUnit.MILLISECONDS);
+                      return "stale";
+                    }));
+    reader.start();
+    assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+    // Act
+    Thread writer =
+        new Thread(
+            () -> {
+              caffeineCache.evictMatching(new TaskDimensions(1L, Status.TODO, Priority.LOW));
+              written.countDown();
+            });
+    writer.start();
+    reader.join(5_000);
+    writer.join(5_000);
+
+    // Assert
+    assertNull(caffeineCache.get(PROJECT_1_TODO));
+  }
+
+  @Test
+  @DisplayName("Should count hits and evictions per tag")
+  void snapshot_ShouldExposeHitsAndEvictionsPerTag() {
+    // Act
+    cache.get(PROJECT_2_ALL);
+    cache.get(PROJECT_2_ALL);
+    cache.evictMatching(new TaskDimensions(2L, Status.DOING, Priority.MEDIUM), null);
+
+    // Assert
+    assertEquals(2L, tags.snapshot().get("projectId:2").get("hits"));
+    assertEquals(1L, tags.snapshot().get("projectId:2").get("evictions"));
+    assertEquals(1L, tags.snapshot().get("status:*").get("evictions"));
+  }
+
+  @Test
+  @DisplayName("Should keep tag stats bounded when clients request arbitrary project ids")
+  void recordHit_ShouldBoundTagStats_WhenProjectIdsAreUnbounded() {
+    // Act
+    for (long projectId = 0; projectId < 10_000; projectId++) {
+      tags.recordHit(new TaskPageKey(0, 10, "id", "ASC", null, null, projectId));
+    }
+
+    // Assert
+    assertTrue(tags.snapshot().size() <= 1_000);
+  }
+
+  @Test
+  @DisplayName("Should drop expired pages from the index without them being read again")
+  void onEviction_ShouldUnregisterPage_WhenEntryExpiresUnread() {
+    // Arrange
+    AtomicLong nanos = new AtomicLong();
+    TaskCacheTags expiringTags = new TaskCacheTags();
+    com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+        Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .ticker(nanos::get)
+            .executor(Runnable::run)
+            .evictionListener(expiringTags::onEviction)
+            .build();
+    TaggedTaskCache expiringCache =
+        new TaggedTaskCache(new CaffeineCache("tasks", nativeCache), expiringTags);
+    TaskPageKey userSortedPage =
+        new TaskPageKey(0, 10, "user-supplied", "ASC", Status.TODO, null, 1L);
+    TaskDimensions task = new TaskDimensions(1L, Status.TODO, Priority.LOW);
+    expiringCache.put(userSortedPage, "page");
+    assertEquals(Set.of(userSortedPage), expiringTags.matching(task));
+
+    // Act
+    nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+    nativeCache.cleanUp();
+
+    // Assert
+    assertTrue(expiringTags.matching(task).isEmpty());
+  }
+}
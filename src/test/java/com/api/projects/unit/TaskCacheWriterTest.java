@@ -0,0 +1,83 @@
+package com.api.projects.unit;
+
+import com.api.projects.caches.TaskCacheWriter;
+import com.api.projects.configs.CacheProperties;
+import com.api.projects.dtos.task.TaskResponseDTO;
+import com.api.projects.entities.Task;
+import com.api.projects.enums.Status;
+import com.api.projects.unit.mocks.TaskMock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskCacheWriterTest {
+
+  private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("task");
+  private final CacheProperties cacheProperties = new CacheProperties();
+  private final TaskCacheWriter writer = new TaskCacheWriter(cacheManager, cacheProperties);
+
+  private Cache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = cacheManager.getCache("task");
+  }
+
+  @Test
+  @DisplayName("Should apply the new status to the cached task")
+  void writeThrough_ShouldUpdateCachedTask_WhenPresent() {
+    // Arrange
+    TaskResponseDTO cached = TaskMock.createTaskResponseDTO();
+    cache.put(10L, cached);
+    Task task = TaskMock.createTaskForUpdateStatus(10L, Status.DONE);
+    task.setUpdatedAt(LocalDateTime.now());
+
+    // Act
+    writer.writeThrough(task);
+
+    // Assert
+    TaskResponseDTO result = cache.get(10L, TaskResponseDTO.class);
+    assertEquals(Status.DONE, result.getStatus());
+    assertEquals(task.getPriority(), result.getPriority());
+    assertEquals(task.getUpdatedAt(), result.getUpdatedAt());
+    assertEquals(Status.TODO, cached.getStatus());
+    assertEquals(cached.getTitle(), result.getTitle());
+  }
+
+  @Test
+  @DisplayName("Should keep a cached task written by a later update")
+  void writeThrough_ShouldKeepCachedTask_WhenCacheIsNewer() {
+    // Arrange
+    TaskResponseDTO cached = TaskMock.createTaskResponseDTO();
+    cached.setUpdatedAt(LocalDateTime.now());
+    cache.put(10L, cached);
+    Task task = TaskMock.createTaskForUpdateStatus(10L, Status.DONE);
+    task.setUpdatedAt(cached.getUpdatedAt().minusSeconds(1));
+
+    // Act
+    writer.writeThrough(task);
+
+    // Assert
+    assertEquals(Status.TODO, cache.get(10L, TaskResponseDTO.class).getStatus());
+  }
+
+  @Test
+  @DisplayName("Should evict the cached task when write-through is disabled")
+  void writeThrough_ShouldEvict_WhenDisabled() {
+    // Arrange
+    cacheProperties.setWriteThrough(false);
+    cache.put(10L, TaskMock.createTaskResponseDTO());
+
+    // Act
+    writer.writeThrough(TaskMock.createTaskForUpdateStatus(10L, Status.DONE));
+
+    // Assert
+    assertNull(cache.get(10L));
+  }
+}
@@ -1,5 +1,9 @@
 package com.api.projects.unit;
 
+import com.api.projects.caches.MissingKeyCache;
+import com.api.projects.caches.TaskCacheWriter;
+import com.api.projects.caches.TaskDimensions;
+import com.api.projects.caches.TaskListCacheInvalidator;
 import com.api.projects.dtos.pagination.PageResponseDTO;
 import com.api.projects.dtos.task.TaskFilterDTO;
 import com.api.projects.dtos.task.TaskPriorityUpdateDTO;
@@ -40,6 +44,12 @@ class TaskServiceTest {
 
   @Mock private TaskMapper taskMapper;
 
+  @Mock private TaskListCacheInvalidator taskListCacheInvalidator;
+
+  @Mock private TaskCacheWriter taskCacheWriter;
+
+  @Mock private MissingKeyCache missingKeyCache;
+
   @InjectMocks private TaskService taskService;
 
   @Test
@@ -70,6 +80,9 @@ class TaskServiceTest {
     verify(taskMapper, times(1)).toEntity(request);
     verify(taskRepository, times(1)).save(task);
     verify(taskMapper, times(1)).toResponse(savedTask);
+    verify(taskListCacheInvalidator, times(1))
+        .evict(null, new TaskDimensions(1L, Status.TODO, Priority.LOW));
+    verify(missingKeyCache, times(1)).clear("task", 10L);
   }
 
   @Test
@@ -119,6 +132,19 @@ class TaskServiceTest {
 
     assertTrue(exception.getMessage().contains("Task not found by id: 99"));
     verify(taskMapper, never()).toResponse(any(Task.class));
+    verify(missingKeyCache, times(1)).markMissing("task", 99L);
+  }
+
+  @Test
+  @DisplayName("Should not query the database when the task id is known to be missing")
+  void findById_ShouldThrowWithoutQuery_WhenTaskIsKnownMissing() {
+    // Arrange
+    when(missingKeyCache.isMissing("task", 99L)).thenReturn(true);
+
+    // Act & Assert
+    assertThrows(NotFoundException.class, () -> taskService.findById(99L));
+
+    verify(taskRepository, never()).findById(anyLong());
   }
 
   @Test
@@ -182,6 +208,11 @@ class TaskServiceTest {
     // Assert
     assertEquals(Status.DONE, existingTask.getStatus());
     verify(taskRepository, times(1)).save(existingTask);
+    verify(taskCacheWriter, times(1)).writeThrough(existingTask);
+    verify(taskListCacheInvalidator, times(1))
+        .evict(
+            new TaskDimensions(1L, Status.TODO, Priority.MEDIUM),
+            new TaskDimensions(1L, Status.DONE, Priority.MEDIUM));
   }
 
   @Test
@@ -214,6 +245,11 @@ class TaskServiceTest {
     // Assert
     assertEquals(Priority.HIGH, existingTask.getPriority());
     verify(taskRepository, times(1)).save(existingTask);
+    verify(taskCacheWriter, times(1)).writeThrough(existingTask);
+    verify(taskListCacheInvalidator, times(1))
+        .evict(
+            new TaskDimensions(1L, Status.TODO, Priority.LOW),
+            new TaskDimensions(1L, Status.TODO, Priority.HIGH));
   }
 
   @Test
@@ -235,26 +271,29 @@ class TaskServiceTest {
   @DisplayName("Should delete task when it exists")
   void delete_ShouldDelete_WhenExists() {
     // Arrange
-    when(taskRepository.existsById(10L)).thenReturn(true);
+    Task existingTask = TaskMock.createSavedTaskEntity();
+    when(taskRepository.findById(10L)).thenReturn(Optional.of(existingTask));
 
     // Act
     taskService.delete(10L);
 
     // Assert
-    verify(taskRepository, times(1)).deleteById(10L);
+    verify(taskRepository, times(1)).delete(existingTask);
+    verify(taskListCacheInvalidator, times(1))
+        .evict(new TaskDimensions(1L, Status.TODO, Priority.LOW), null);
   }
 
   @Test
   @DisplayName("Should throw NotFoundException on delete when task does not exist")
   void delete_ShouldThrowNotFound_WhenNotExists() {
     // Arrange
-    when(taskRepository.existsById(99L)).thenReturn(false);
+    when(taskRepository.findById(99L)).thenReturn(Optional.empty());
 
     // Act & Assert
     NotFoundException exception =
         assertThrows(NotFoundException.class, () -> taskService.delete(99L));
 
     assertTrue(exception.getMessage().contains("Task not found by id: 99"));
-    verify(taskRepository, never()).deleteById(anyLong());
+    verify(taskRepository, never()).delete(any(Task.class));
   }
 }
@@ -0,0 +1,127 @@
+package com.api.projects.unit;
+
+import com.api.projects.caches.CacheInvalidationBus;
+import com.api.projects.entities.RevokedToken;
+import com.api.projects.repositories.RevokedTokenRepository;
+import com.api.projects.securities.TokenRevocationList;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+  @Mock private RevokedTokenRepository revokedTokenRepository;
+
+  @Mock private CacheInvalidationBus cacheInvalidationBus;
+
+  private TokenRevocationList revocationList;
+
+  @BeforeEach
+  void setUp() {
+    StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    beanFactory.addBean("cacheInvalidationBus", cacheInvalidationBus);
+    revocationList =
+        new TokenRevocationList(
+            revokedTokenRepository, 100, beanFactory.getBeanProvider(CacheInvalidationBus.class));
+  }
+
+  @Test
+  @DisplayName("Should load revoked token ids from the database when rebuilt")
+  void rebuild_ShouldLoadRevokedTokens_WhenRowsExist() {
+    // Arrange
+    RevokedToken revoked =
+        RevokedToken.builder()
+            .tokenId("revoked-id")
+            .expiresAt(LocalDateTime.now().plusMinutes(10))
+            .build();
+    when(revokedTokenRepository.findAllByExpiresAtAfter(any(LocalDateTime.class)))
+        .thenReturn(List.of(revoked));
+
+    // Act
+    revocationList.rebuild();
+
+    // Assert
+    assertTrue(revocationList.isRevoked("revoked-id"));
+    assertFalse(revocationList.isRevoked("active-id"));
+    verify(revokedTokenRepository, times(1)).deleteExpired(any(LocalDateTime.class));
+  }
+
+  @Test
+  @DisplayName("Should persist and immediately reject a revoked token")
+  void revoke_ShouldRejectTokenAndPersistIt() {
+    // Act
+    revocationList.revoke("logged-out", Instant.now().plusSeconds(600));
+
+    // Assert
+    assertTrue(revocationList.isRevoked("logged-out"));
+    verify(revokedTokenRepository, times(1))
+        .save(argThat(token -> token.getTokenId().equals("logged-out")));
+  }
+
+  @Test
+  @DisplayName("Should publish a revocation so other instances apply it before their next rebuild")
+  void revoke_ShouldPublishRevocation_WhenBusIsAvailable() {
+    // Arrange
+    Instant expiresAt = Instant.now().plusSeconds(600);
+
+    // Act
+    revocationList.revoke("logged-out", expiresAt);
+
+    // Assert
+    verify(cacheInvalidationBus, times(1)).publishTokenRevocation("logged-out", expiresAt);
+  }
+
+  @Test
+  @DisplayName("Should reject a token revoked by another instance without a rebuild")
+  void addRevoked_ShouldRejectToken_WhenRevokedElsewhere() {
+    // Act
+    revocationList.addRevoked("revoked-elsewhere", Instant.now().plusSeconds(600));
+
+    // Assert
+    assertTrue(revocationList.isRevoked("revoked-elsewhere"));
+    verifyNoInteractions(revokedTokenRepository, cacheInvalidationBus);
+  }
+
+  @Test
+  @DisplayName("Should keep tokens revoked locally when the rebuild does not return them yet")
+  void rebuild_ShouldKeepLocalRevocations_WhenDatabaseIsBehind() {
+    // Arrange
+    revocationList.revoke("logged-out", Instant.now().plusSeconds(600));
+    when(revokedTokenRepository.findAllByExpiresAtAfter(any(LocalDateTime.class)))
+        .thenReturn(List.of());
+
+    // Act
+    revocationList.rebuild();
+
+    // Assert
+    assertTrue(revocationList.isRevoked("logged-out"));
+  }
+
+  @Test
+  @DisplayName("Should drop expired revocations on rebuild")
+  void rebuild_ShouldDropExpiredTokens() {
+    // Arrange
+    revocationList.revoke("expired", Instant.now().minusSeconds(1));
+    when(revokedTokenRepository.findAllByExpiresAtAfter(any(LocalDateTime.class)))
+        .thenReturn(List.of());
+
+    // Act
+    revocationList.rebuild();
+
+    // Assert
+    assertFalse(revocationList.isRevoked("expired"));
+    assertFalse(revocationList.isRevoked(null));
+  }
+}
@@ -0,0 +1,157 @@
+package com.api.projects.unit;
+
+import com.api.projects.entities.User;
+import com.api.projects.securities.AuthenticatedUser;
+import com.api.projects.securities.Role;
+import com.api.projects.services.TokenService;
+import com.api.projects.services.TokenService.VerifiedToken;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceTest {
+
+  private static final String SECRET = "test-secret";
+
+  private SimpleMeterRegistry meterRegistry;
+  private TokenService tokenService;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    tokenService = new TokenService(SECRET, Duration.ofMinutes(15), 100, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("Should reuse the verified token when the same token is validated again")
+  void validateToken_ShouldReturnCachedResult_WhenTokenWasVerifiedBefore() {
+    // Arrange
+    User user = User.builder().id(3L).username("testuser").role(Role.ROLE_USER).build();
+    String token = tokenService.generateToken(user);
+
+    // Act
+    VerifiedToken first = tokenService.validateToken(token);
+    VerifiedToken second = tokenService.validateToken(token);
+
+    // Assert
+    assertSame(first, second);
+    assertNotNull(first.tokenId());
+    assertEquals(new AuthenticatedUser(3L, "testuser", Role.ROLE_USER), first.principal());
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get("cache.gets")
+            .tags("cache", "verified-tokens", "result", "hit")
+            .counter()
+            .count());
+  }
+
+  @Test
+  @DisplayName("Should only return tokens that were verified before")
+  void findVerified_ShouldReturnNull_WhenTokenWasNotVerified() {
+    // Arrange
+    User user = User.builder().id(3L).username("testuser").role(Role.ROLE_USER).build();
+    String token = tokenService.generateToken(user);
+    String forged =
+        JWT.create()
+            .withSubject("admin")
+            .withExpiresAt(Instant.now().plusSeconds(60))
+            .sign(Algorithm.HMAC256("other-secret"));
+
+    // Act
+    VerifiedToken beforeValidation = tokenService.findVerified(token);
+    VerifiedToken validated = tokenService.validateToken(token);
+
+    // Assert
+    assertNull(beforeValidation);
+    assertSame(validated, tokenService.findVerified(token));
+    assertNull(tokenService.findVerified(forged));
+  }
+
+  @Test
+  @DisplayName("Should verify the signature on every call when the cache size is 0")
+  void validateToken_ShouldVerifyEveryTime_WhenCacheIsDisabled() {
+    // Arrange
+    SimpleMeterRegistry uncachedRegistry = new SimpleMeterRegistry();
+    TokenService uncached =
+        new TokenService(SECRET, Duration.ofMinutes(15), 0, uncachedRegistry);
+    User user = User.builder().id(3L).username("testuser").role(Role.ROLE_USER).build();
+    String token = uncached.generateToken(user);
+
+    // Act
+    VerifiedToken first = uncached.validateToken(token);
+    VerifiedToken second = uncached.validateToken(token);
+
+    // Assert
+    assertNotSame(first, second);
+    assertEquals(first, second);
+    assertEquals(first, uncached.findVerified(token));
+    assertNull(uncachedRegistry.find("cache.gets").counter());
+  }
+
+  @Test
+  @DisplayName("Should verify the token itself in findVerified when the cache size is 0")
+  void findVerified_ShouldVerifyToken_WhenCacheIsDisabled() {
+    // Arrange
+    TokenService uncached =
+        new TokenService(SECRET, Duration.ofMinutes(15), 0, new SimpleMeterRegistry());
+    User user = User.builder().id(3L).username("testuser").role(Role.ROLE_USER).build();
+    String token = uncached.generateToken(user);
+    String forged =
+        JWT.create()
+            .withSubject("admin")
+            .withExpiresAt(Instant.now().plusSeconds(60))
+            .sign(Algorithm.HMAC256("other-secret"));
+
+    // Act
+    VerifiedToken verified = uncached.findVerified(token);
+
+    // Assert
+    assertEquals("testuser", verified.subject());
+    assertNull(uncached.findVerified(forged));
+  }
+
+  @Test
+  @DisplayName("Should reject a token with a forged signature")
+  void validateToken_ShouldThrowException_WhenSignatureIsInvalid() {
+    // Arrange
+    String forged =
+        JWT.create()
+            .withSubject("admin")
+            .withExpiresAt(Instant.now().plusSeconds(60))
+            .sign(Algorithm.HMAC256("other-secret"));
+
+    // Act & Assert
+    assertThrows(SignatureVerificationException.class, () -> tokenService.validateToken(forged));
+    assertThrows(SignatureVerificationException.class, () -> tokenService.validateToken(forged));
+  }
+
+  @Test
+  @DisplayName("Should stop serving a cached token once it expires")
+  void validateToken_ShouldThrowException_WhenCachedTokenExpires() throws InterruptedException {
+    // Arrange
+    Instant expiresAt = Instant.now().plusSeconds(2).truncatedTo(ChronoUnit.SECONDS);
+    String token =
+        JWT.create()
+            .withSubject("testuser")
+            .withExpiresAt(expiresAt)
+            .sign(Algorithm.HMAC256(SECRET));
+    assertEquals("testuser", tokenService.validateToken(token).subject());
+
+    // Act
+    Thread.sleep(Duration.between(Instant.now(), expiresAt).plusMillis(100).toMillis());
+
+    // Assert
+    assertThrows(TokenExpiredException.class, () -> tokenService.validateToken(token));
+  }
+}
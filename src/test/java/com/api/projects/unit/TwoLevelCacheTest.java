@@ -0,0 +1,212 @@
+package com.api.projects.unit;
+
+import com.api.projects.caches.CacheInvalidationBus;
+import com.api.projects.caches.HotKeyTracker;
+import com.api.projects.caches.ListVersions;
+import com.api.projects.caches.MissingKeyCache;
+import com.api.projects.caches.SmileCacheSerializer;
+import com.api.projects.caches.TaggedTaskCache;
+import com.api.projects.caches.TaskCacheTags;
+import com.api.projects.caches.TaskDimensions;
+import com.api.projects.caches.TaskPageKey;
+import com.api.projects.caches.TwoLevelCache;
+import com.api.projects.caches.TwoLevelCacheFactory;
+import com.api.projects.configs.CacheConfig;
+import com.api.projects.configs.CacheProperties;
+import com.api.projects.dtos.project.ProjectResponseDTO;
+import com.api.projects.enums.Priority;
+import com.api.projects.enums.Status;
+import com.api.projects.securities.TokenRevocationList;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwoLevelCacheTest {
+
+  private static final String CHANNEL = "test:cache-invalidation";
+
+  private static RedisServer redisServer;
+  private static int port;
+
+  private final List<AutoCloseable> resources = new ArrayList<>();
+  private Cache nodeA;
+  private Cache nodeB;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+    redisServer = new RedisServer(port);
+    redisServer.start();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    redisServer.stop();
+  }
+
+  @BeforeEach
+  void setUp() throws Exception {
+    nodeA = createNode();
+    nodeB = createNode();
+    nodeA.clear();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    for (AutoCloseable resource : resources) {
+      resource.close();
+    }
+  }
+
+  @Test
+  @DisplayName("Should serve a value written by another node from the shared tier")
+  void get_ShouldReturnSharedValue_WhenAnotherNodeWroteIt() {
+    // Arrange
+    ProjectResponseDTO project = ProjectResponseDTO.builder().id(1L).name("Shared").build();
+
+    // Act
+    nodeA.put(1L, project);
+
+    // Assert
+    assertEquals(project, nodeB.get(1L, ProjectResponseDTO.class));
+  }
+
+  @Test
+  @DisplayName("Should drop the local copies on other nodes when an entry is evicted")
+  void evict_ShouldInvalidateOtherNodes_WhenEntryIsEvicted() throws Exception {
+    // Arrange
+    ProjectResponseDTO project = ProjectResponseDTO.builder().id(2L).name("Stale").build();
+    nodeA.put(2L, project);
+    assertNotNull(nodeB.get(2L));
+
+    // Act
+    nodeA.evict(2L);
+
+    // Assert
+    awaitTrue(() -> localOf(nodeB).getNativeCache().getIfPresent(2L) == null);
+    assertNull(nodeB.get(2L));
+  }
+
+  @Test
+  @DisplayName("Should evict a shared tasks page on a task write after L1 evicted it")
+  @SuppressWarnings("unchecked")
+  void evictMatching_ShouldEvictSharedPage_WhenLocalCopyWasEvicted() throws Exception {
+    // Arrange
+    TwoLevelCacheFactory sharedTier = createSharedTier();
+    StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    beanFactory.addBean("twoLevelCacheFactory", sharedTier);
+    CacheManager cacheManager =
+        new CacheConfig()
+            .cacheManager(
+                new CacheProperties(),
+                new TaskCacheTags(),
+                new HotKeyTracker(new CacheProperties(), new ObjectMapper()),
+                new ListVersions(),
+                List.of(),
+                beanFactory.getBeanProvider(TwoLevelCacheFactory.class),
+                new SimpleMeterRegistry());
+    TaggedTaskCache tasks = (TaggedTaskCache) cacheManager.getCache("tasks");
+    TaskPageKey page = new TaskPageKey(0, 10, "id", "ASC", Status.TODO, null, 1L);
+    tasks.put(page, "p1-todo");
+
+    com.github.benmanes.caffeine.cache.Cache<Object, Object> local =
+        (com.github.benmanes.caffeine.cache.Cache<Object, Object>) tasks.getNativeCache();
+    local.policy().eviction().orElseThrow().setMaximum(0);
+    local.cleanUp();
+    assertNull(local.getIfPresent(page));
+
+    // Act
+    tasks.evictMatching(new TaskDimensions(1L, Status.TODO, Priority.LOW));
+
+    // Assert
+    assertNull(tasks.get(page));
+  }
+
+  private Cache createNode() throws Exception {
+    Cache local = new CaffeineCache("project", Caffeine.newBuilder().build());
+    return createSharedTier().decorate(local);
+  }
+
+  private TwoLevelCacheFactory createSharedTier() throws Exception {
+    LettuceConnectionFactory connectionFactory =
+        new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+    resources.add(connectionFactory::destroy);
+
+    RedisTemplate<String, Object> template = new RedisTemplate<>();
+    template.setConnectionFactory(connectionFactory);
+    template.setKeySerializer(new StringRedisSerializer());
+    template.setValueSerializer(new SmileCacheSerializer());
+    template.afterPropertiesSet();
+
+    StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    CacheInvalidationBus bus =
+        new CacheInvalidationBus(
+            template,
+            CHANNEL,
+            beanFactory.getBeanProvider(CacheManager.class),
+            beanFactory.getBeanProvider(MissingKeyCache.class),
+            beanFactory.getBeanProvider(ListVersions.class),
+            beanFactory.getBeanProvider(TokenRevocationList.class));
+
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(bus, new ChannelTopic(CHANNEL));
+    container.afterPropertiesSet();
+    container.start();
+    resources.add(container::destroy);
+
+    RedisCacheManager redisCacheManager =
+        RedisCacheManager.builder(connectionFactory)
+            .cacheDefaults(
+                RedisCacheConfiguration.defaultCacheConfig()
+                    .serializeValuesWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(
+                            new SmileCacheSerializer())))
+            .build();
+    return new TwoLevelCacheFactory(redisCacheManager, bus);
+  }
+
+  private static CaffeineCache localOf(Cache cache) {
+    return (CaffeineCache) ((TwoLevelCache) cache).getLocal();
+  }
+
+  private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(20);
+    }
+    assertTrue(condition.getAsBoolean());
+  }
+}
@@ -1,5 +1,7 @@
 package com.api.projects.unit;
 
+import com.api.projects.caches.UserIdentifierFilter;
+import com.api.projects.dtos.user.UserAvailabilityDTO;
 import com.api.projects.dtos.user.UserRequestDTO;
 import com.api.projects.dtos.user.UserResponseDTO;
 import com.api.projects.entities.User;
@@ -7,17 +9,22 @@ import com.api.projects.mappers.UserMapper;
 import com.api.projects.repositories.UserRepository;
 import com.api.projects.securities.Role;
 import com.api.projects.services.UserService;
+import com.api.projects.exceptions.BusinessException;
 import com.api.projects.exceptions.ConflictException; // Mudar para ConflictException
 import com.api.projects.unit.mocks.UserMock;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Optional;
@@ -34,6 +41,10 @@ class UserServiceTest {
 
   @Mock private UserMapper userMapper;
 
+  @Spy private PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+  @Mock private UserIdentifierFilter userIdentifierFilter;
+
   @InjectMocks private UserService userService;
 
   @Test
@@ -43,10 +54,7 @@ class UserServiceTest {
     UserRequestDTO request = UserMock.createValidUserRequestDTO();
     User savedUser = UserMock.createUserEntity();
     UserResponseDTO response = UserMock.createUserResponseDTO();
-
-    when(userRepository.existsByUsername(request.getUsername())).thenReturn(false);
-    when(userRepository.existsByEmail(request.getEmail())).thenReturn(false);
-    when(userRepository.save(any(User.class))).thenReturn(savedUser);
+    when(userRepository.saveAndFlush(any(User.class))).thenReturn(savedUser);
     when(userMapper.toResponse(savedUser)).thenReturn(response);
 
     // Act
@@ -57,10 +65,7 @@ class UserServiceTest {
     assertEquals(1L, result.getId());
     assertEquals("testuser", result.getUsername());
     assertEquals("test@example.com", result.getEmail());
-
-    verify(userRepository, times(1)).existsByUsername("testuser");
-    verify(userRepository, times(1)).existsByEmail("test@example.com");
-    verify(userRepository, times(1)).save(any(User.class));
+    verify(userRepository, times(1)).saveAndFlush(any(User.class));
     verify(userMapper, times(1)).toResponse(savedUser);
   }
 
@@ -71,10 +76,7 @@ class UserServiceTest {
     UserRequestDTO request = UserMock.createValidUserRequestDTO();
     User savedUser = UserMock.createUserEntityWithEncryptedPassword();
     UserResponseDTO response = UserMock.createUserResponseDTO();
-
-    when(userRepository.existsByUsername(request.getUsername())).thenReturn(false);
-    when(userRepository.existsByEmail(request.getEmail())).thenReturn(false);
-    when(userRepository.save(any(User.class))).thenReturn(savedUser);
+    when(userRepository.saveAndFlush(any(User.class))).thenReturn(savedUser);
     when(userMapper.toResponse(savedUser)).thenReturn(response);
 
     // Act
@@ -85,7 +87,7 @@ class UserServiceTest {
 
     // Verify that password was encrypted and role was set
     verify(userRepository)
-        .save(
+        .saveAndFlush(
             argThat(
                 user -> {
                   BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
@@ -107,10 +109,7 @@ class UserServiceTest {
     UserRequestDTO request = UserMock.createValidUserRequestDTO();
     User savedUser = UserMock.createUserEntity();
     UserResponseDTO response = UserMock.createUserResponseDTO();
-
-    when(userRepository.existsByUsername(request.getUsername())).thenReturn(false);
-    when(userRepository.existsByEmail(request.getEmail())).thenReturn(false);
-    when(userRepository.save(any(User.class))).thenReturn(savedUser);
+    when(userRepository.saveAndFlush(any(User.class))).thenReturn(savedUser);
     when(userMapper.toResponse(savedUser)).thenReturn(response);
 
     // Act
@@ -120,7 +119,41 @@ class UserServiceTest {
     assertNotNull(result);
 
     // Verify that role was set to ROLE_USER
-    verify(userRepository).save(argThat(user -> user.getRole() == Role.ROLE_USER));
+    verify(userRepository).saveAndFlush(argThat(user -> user.getRole() == Role.ROLE_USER));
+  }
+
+  @Test
+  @DisplayName("Should reject a taken username before hashing the password")
+  void create_ShouldThrowConflictExceptionWithoutHashing_WhenUsernameIsTaken() {
+    // Arrange
+    UserRequestDTO request = UserMock.createValidUserRequestDTO();
+    when(userIdentifierFilter.mightHaveUsername("testuser")).thenReturn(true);
+    when(userRepository.existsByUsername("testuser")).thenReturn(true);
+
+    // Act & Assert
+    ConflictException exception =
+        assertThrows(ConflictException.class, () -> userService.create(request));
+
+    assertEquals("Username already exists, please, try other username", exception.getMessage());
+    verify(passwordEncoder, never()).encode(any());
+    verify(userRepository, never()).saveAndFlush(any(User.class));
+  }
+
+  @Test
+  @DisplayName("Should reject a taken email before hashing the password")
+  void create_ShouldThrowConflictExceptionWithoutHashing_WhenEmailIsTaken() {
+    // Arrange
+    UserRequestDTO request = UserMock.createUserRequestDTOWithExistingEmail();
+    when(userIdentifierFilter.mightHaveEmail(request.getEmail())).thenReturn(true);
+    when(userRepository.existsByEmail(request.getEmail())).thenReturn(true);
+
+    // Act & Assert
+    ConflictException exception =
+        assertThrows(ConflictException.class, () -> userService.create(request));
+
+    assertEquals("Email already exists, please, try other email address", exception.getMessage());
+    verify(passwordEncoder, never()).encode(any());
+    verify(userRepository, never()).saveAndFlush(any(User.class));
   }
 
   @Test
@@ -128,9 +161,8 @@ class UserServiceTest {
   void create_ShouldThrowConflictException_WhenEmailExists() {
     // Arrange
     UserRequestDTO request = UserMock.createUserRequestDTOWithExistingEmail();
-
-    when(userRepository.existsByUsername(request.getUsername())).thenReturn(false);
-    when(userRepository.existsByEmail(request.getEmail())).thenReturn(true);
+    when(userRepository.saveAndFlush(any(User.class)))
+        .thenThrow(uniqueViolation(User.EMAIL_CONSTRAINT));
 
     // Act & Assert
     ConflictException exception =
@@ -138,9 +170,9 @@ class UserServiceTest {
 
     assertEquals("Email already exists, please, try other email address", exception.getMessage());
 
-    verify(userRepository, times(1)).existsByUsername(request.getUsername());
-    verify(userRepository, times(1)).existsByEmail("exists@example.com");
-    verify(userRepository, never()).save(any());
+    verify(userRepository, never()).existsByUsername(any());
+    verify(userRepository, never()).existsByEmail(any());
+    verify(userIdentifierFilter, never()).add(any(), any());
     verify(userMapper, never()).toResponse(any());
   }
 
@@ -150,20 +182,89 @@ class UserServiceTest {
     // Arrange
     UserRequestDTO request = UserMock.createValidUserRequestDTO();
 
-    when(userRepository.existsByUsername(request.getUsername())).thenReturn(true);
+    when(userRepository.saveAndFlush(any(User.class)))
+        .thenThrow(uniqueViolation(User.USERNAME_CONSTRAINT));
 
     // Act & Assert
     ConflictException exception =
         assertThrows(ConflictException.class, () -> userService.create(request));
 
     assertEquals("Username already exists, please, try other username", exception.getMessage());
-
-    verify(userRepository, times(1)).existsByUsername("testuser");
-    verify(userRepository, never()).existsByEmail(any());
-    verify(userRepository, never()).save(any());
+    verify(userIdentifierFilter, never()).add(any(), any());
     verify(userMapper, never()).toResponse(any());
   }
 
+  @Test
+  @DisplayName("Should rethrow integrity violations that are not a duplicate username or email")
+  void create_ShouldRethrow_WhenOtherConstraintIsViolated() {
+    // Arrange
+    UserRequestDTO request = UserMock.createValidUserRequestDTO();
+    DataIntegrityViolationException violation = uniqueViolation("tb_users_role_check");
+
+    when(userRepository.saveAndFlush(any(User.class))).thenThrow(violation);
+
+    // Act & Assert
+    assertSame(
+        violation,
+        assertThrows(DataIntegrityViolationException.class, () -> userService.create(request)));
+  }
+
+  @Test
+  @DisplayName("Should report values as available without a query when the filter has not seen them")
+  void checkAvailability_ShouldSkipDatabase_WhenFilterMisses() {
+    // Arrange
+    when(userIdentifierFilter.mightHaveUsername("newuser")).thenReturn(false);
+    when(userIdentifierFilter.mightHaveEmail("new@example.com")).thenReturn(false);
+
+    // Act
+    UserAvailabilityDTO result = userService.checkAvailability(" newuser ", "new@example.com");
+
+    // Assert
+    assertTrue(result.usernameAvailable());
+    assertTrue(result.emailAvailable());
+    verifyNoInteractions(userRepository);
+  }
+
+  @Test
+  @DisplayName("Should confirm filter hits against the database")
+  void checkAvailability_ShouldQueryDatabase_WhenFilterHits() {
+    // Arrange
+    when(userIdentifierFilter.mightHaveUsername("testuser")).thenReturn(true);
+    when(userIdentifierFilter.mightHaveEmail("free@example.com")).thenReturn(true);
+    when(userRepository.existsByUsername("testuser")).thenReturn(true);
+    when(userRepository.existsByEmail("free@example.com")).thenReturn(false);
+
+    // Act
+    UserAvailabilityDTO result = userService.checkAvailability("testuser", "free@example.com");
+
+    // Assert
+    assertFalse(result.usernameAvailable());
+    assertTrue(result.emailAvailable());
+  }
+
+  @Test
+  @DisplayName("Should only report the values that were asked for")
+  void checkAvailability_ShouldOmitEmail_WhenOnlyUsernameGiven() {
+    // Arrange
+    when(userIdentifierFilter.mightHaveUsername("testuser")).thenReturn(false);
+
+    // Act
+    UserAvailabilityDTO result = userService.checkAvailability("testuser", null);
+
+    // Assert
+    assertTrue(result.usernameAvailable());
+    assertNull(result.emailAvailable());
+    verify(userIdentifierFilter, never()).mightHaveEmail(any());
+  }
+
+  @Test
+  @DisplayName("Should throw BusinessException when neither username nor email is given")
+  void checkAvailability_ShouldThrowBusinessException_WhenNoParameters() {
+    // Act & Assert
+    assertThrows(BusinessException.class, () -> userService.checkAvailability(null, null));
+    verifyNoInteractions(userRepository, userIdentifierFilter);
+  }
+
   @Test
   @DisplayName("Should load user by username when user exists")
   void loadUserByUsername_ShouldReturnUser_WhenUserExists() {
@@ -187,6 +288,21 @@ class UserServiceTest {
     verify(userRepository, times(1)).findByUsername(username);
   }
 
+  @Test
+  @DisplayName("Should normalize the username the same way as signup when loading a user")
+  void loadUserByUsername_ShouldNormalizeUsername_WhenItHasStrayWhitespace() {
+    // Arrange
+    User user = UserMock.createUserEntityForLoadByUsername("test user");
+    when(userRepository.findByUsername("test user")).thenReturn(Optional.of(user));
+
+    // Act
+    UserDetails userDetails = userService.loadUserByUsername("  test   user ");
+
+    // Assert
+    assertEquals("test user", userDetails.getUsername());
+    verify(userRepository, times(1)).findByUsername("test user");
+  }
+
   @Test
   @DisplayName("Should throw UsernameNotFoundException when user does not exist")
   void loadUserByUsername_ShouldThrowException_WhenUserNotFound() {
@@ -214,10 +330,7 @@ class UserServiceTest {
     for (int i = 0; i < requests.length; i++) {
       // Reset mocks for each iteration
       reset(userRepository, userMapper);
-
-      when(userRepository.existsByUsername(requests[i].getUsername())).thenReturn(false);
-      when(userRepository.existsByEmail(requests[i].getEmail())).thenReturn(false);
-      when(userRepository.save(any(User.class))).thenReturn(entities[i]);
+      when(userRepository.saveAndFlush(any(User.class))).thenReturn(entities[i]);
       when(userMapper.toResponse(entities[i])).thenReturn(responses[i]);
 
       // Act
@@ -228,10 +341,12 @@ class UserServiceTest {
       assertEquals(responses[i].getId(), result.getId());
       assertEquals(responses[i].getUsername(), result.getUsername());
       assertEquals(responses[i].getEmail(), result.getEmail());
-
-      verify(userRepository, times(1)).existsByUsername(requests[i].getUsername());
-      verify(userRepository, times(1)).existsByEmail(requests[i].getEmail());
-      verify(userRepository, times(1)).save(any(User.class));
+      verify(userRepository, times(1)).saveAndFlush(any(User.class));
     }
   }
+
+  private static DataIntegrityViolationException uniqueViolation(String constraint) {
+    return new DataIntegrityViolationException(
+        "duplicate key", new ConstraintViolationException("duplicate key", null, constraint));
+  }
 }